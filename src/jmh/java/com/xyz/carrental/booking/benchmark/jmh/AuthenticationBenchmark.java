@@ -0,0 +1,66 @@
+package com.xyz.carrental.booking.benchmark.jmh;
+
+import com.xyz.carrental.booking.security.AuthTokenService;
+import com.xyz.carrental.booking.security.CachingAuthenticationProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authenticating one request: Basic Auth with a BCrypt check, Basic Auth through the credential cache,
+ * and a bearer token from {@code /auth/token}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private DaoAuthenticationProvider bcrypt;
+    private CachingAuthenticationProvider cached;
+    private AuthTokenService tokens;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager(User.withUsername("user")
+                .password(encoder.encode("user123"))
+                .roles("USER")
+                .build());
+        bcrypt = new DaoAuthenticationProvider(encoder);
+        bcrypt.setUserDetailsService(users);
+        cached = new CachingAuthenticationProvider(encoder, users, 10_000, Duration.ofMinutes(1));
+        cached.authenticate(credentials());
+        tokens = new AuthTokenService("", Duration.ofMinutes(15));
+        token = tokens.issue(cached.authenticate(credentials())).token();
+    }
+
+    @Benchmark
+    public Authentication basicBcrypt() {
+        return bcrypt.authenticate(credentials());
+    }
+
+    @Benchmark
+    public Authentication basicCached() {
+        return cached.authenticate(credentials());
+    }
+
+    @Benchmark
+    public Authentication bearerToken() {
+        return tokens.verify(token);
+    }
+
+    private static Authentication credentials() {
+        return UsernamePasswordAuthenticationToken.unauthenticated("user", "user123");
+    }
+}
@@ -0,0 +1,49 @@
+package com.xyz.carrental.booking.benchmark.jmh;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappings used when confirming and reading a booking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMapperBenchmark {
+
+    private final BookingMapper mapper = Mappers.getMapper(BookingMapper.class);
+    private final UUID id = UUID.randomUUID();
+    private final BigDecimal price = new BigDecimal("250.00");
+    private ConfirmBookingRequest request;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        request = new ConfirmBookingRequest("DL123456789", 30,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(5), CarSegment.MEDIUM);
+        booking = mapper.toBooking(request, "John Doe", price, id);
+    }
+
+    @Benchmark
+    public Booking toBooking() {
+        return mapper.toBooking(request, "John Doe", price, id);
+    }
+
+    @Benchmark
+    public BookingDetailsResponse toResponse() {
+        return mapper.toResponse(booking);
+    }
+}
@@ -0,0 +1,50 @@
+package com.xyz.carrental.booking.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (de)serialization of the booking request, with an {@link ObjectMapper} configured as Spring Boot does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private ConfirmBookingRequest request;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(ConfirmBookingRequest.class);
+        writer = objectMapper.writerFor(ConfirmBookingRequest.class);
+        request = new ConfirmBookingRequest("DL123456789", 30,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(5), CarSegment.MEDIUM);
+        json = writer.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ConfirmBookingRequest deserializeRequest() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws IOException {
+        return writer.writeValueAsBytes(request);
+    }
+}
@@ -0,0 +1,112 @@
+package com.xyz.carrental.booking.benchmark.jmh;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.logging.LogSamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The log lines written by one {@code confirmBooking}, from 4 threads, through the logging setups:
+ * <ul>
+ *   <li>{@code sync_debug}: the previous default, DEBUG level and a synchronous appender</li>
+ *   <li>{@code sync}: INFO level, synchronous appender</li>
+ *   <li>{@code async}: INFO level, {@link AsyncAppender} as in {@code logback-spring.xml}</li>
+ *   <li>{@code async_sampled}: as {@code async}, plus {@link LogSamplingTurboFilter} at 100 events/s per logger</li>
+ * </ul>
+ * Events are formatted with Spring Boot's console pattern and written to a null stream, so the numbers show
+ * the cost on the request thread rather than the speed of a terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync_debug", "sync", "async", "async_sampled"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger controller;
+    private Logger service;
+    private Logger client;
+    private Logger validator;
+    private final UUID bookingId = UUID.randomUUID();
+    private final BigDecimal total = new BigDecimal("149.97");
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> out = new OutputStreamAppender<>();
+        out.setContext(context);
+        out.setName("NULL");
+        out.setEncoder(encoder);
+        out.setOutputStream(OutputStream.nullOutputStream());
+        out.start();
+
+        Appender<ILoggingEvent> appender = out;
+        if (mode.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(out);
+            async.start();
+            appender = async;
+        }
+        if (mode.equals("async_sampled")) {
+            LogSamplingTurboFilter sampling = new LogSamplingTurboFilter();
+            sampling.setLoggers("com.xyz.carrental.booking");
+            sampling.setMaxEventsPerSecond(100);
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.addAppender(appender);
+        context.getLogger("com.xyz.carrental.booking").setLevel(mode.equals("sync_debug") ? Level.DEBUG : Level.INFO);
+
+        controller = context.getLogger("com.xyz.carrental.booking.controller.BookingController");
+        service = context.getLogger("com.xyz.carrental.booking.service.BookingServiceImpl");
+        client = context.getLogger("com.xyz.carrental.booking.client.DrivingLicenseClient");
+        validator = context.getLogger("com.xyz.carrental.booking.validation.LicenseValidator");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void confirmBookingLogLines() {
+        controller.info("Received booking request for carSegment: {}", CarSegment.MEDIUM);
+        service.info("Confirming booking for drivingLicenseNumber={} and carSegment={}", "DL12*****89", CarSegment.MEDIUM);
+        client.info("Calling Driving License API for license lookup: {}", "DL12*****89");
+        validator.debug("Validating license");
+        validator.info("License validation passed for owner={}", "John Doe");
+        service.info("License validated successfully");
+        service.debug("Total price calculated: {}", total);
+        service.info("Booking saved successfully with bookingId={}", bookingId);
+        controller.info("Booking confirmed successfully with bookingId={}", bookingId);
+    }
+}
@@ -0,0 +1,65 @@
+package com.xyz.carrental.booking.benchmark.jmh;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import com.xyz.carrental.booking.service.RentalPriceCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Total price calculation done by {@code confirmBooking}: without rules, with a season, a weekend surcharge and
+ * discount tiers, and the previous {@link BigDecimal}-only formula for reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculationBenchmark {
+
+    private final RentalPriceCalculator calculator = new RentalPriceCalculator(new PricingEngine(PricingRules.none(), LocalDate.now()));
+    private final BigDecimal ratePerDay = new BigDecimal("49.99");
+
+    @Param({"1", "7", "30"})
+    public int days;
+
+    private RentalPriceCalculator calculatorWithRules;
+    private LocalDate start;
+    private LocalDate end;
+
+    @Setup
+    public void setUp() {
+        start = LocalDate.now().plusDays(1);
+        end = start.plusDays(days - 1L);
+        PricingRules rules = new PricingRules(730, new BigDecimal("10"),
+                Map.of(7, new BigDecimal("5"), 14, new BigDecimal("10")),
+                List.of(new PricingRules.Season("summer", Set.of(CarSegment.MEDIUM), "06-01", "08-31", new BigDecimal("120"))));
+        calculatorWithRules = new RentalPriceCalculator(new PricingEngine(rules, LocalDate.now()));
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotal() {
+        return calculator.calculateTotal(CarSegment.MEDIUM, ratePerDay, start, end);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalWithRules() {
+        return calculatorWithRules.calculateTotal(CarSegment.MEDIUM, ratePerDay, start, end);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalFormula() {
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        return ratePerDay.multiply(BigDecimal.valueOf(days)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,63 @@
+package com.xyz.carrental.booking.benchmark.jmh;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import com.xyz.carrental.booking.validation.BookingDatesValidator;
+import com.xyz.carrental.booking.validation.LicenseNumberValidator;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request and license validation on the confirmation path.
+ * <p>
+ * {@code licenseNumberStringMatches} is the former implementation of {@link LicenseNumberValidator}
+ * ({@code String.matches}, compiling the pattern on every call), kept as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final LicenseNumberValidator licenseNumberValidator = new LicenseNumberValidator();
+    private final BookingDatesValidator bookingDatesValidator = new BookingDatesValidator();
+    private final LicenseValidator licenseValidator = new LicenseValidator();
+    private String licenseNumber;
+    private ConfirmBookingRequest request;
+    private LicenseResponse license;
+
+    @Setup
+    public void setUp() {
+        licenseNumber = "DL123456789";
+        request = new ConfirmBookingRequest(licenseNumber, 30,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(5), CarSegment.MEDIUM);
+        license = new LicenseResponse(licenseNumber, "John Doe", LocalDate.now().minusYears(3), LocalDate.now().plusYears(7));
+    }
+
+    @Benchmark
+    public boolean licenseNumber() {
+        return licenseNumberValidator.isValid(licenseNumber, null);
+    }
+
+    @Benchmark
+    public boolean licenseNumberStringMatches() {
+        return licenseNumber.matches("^[A-Za-z0-9_-]{5,20}$");
+    }
+
+    @Benchmark
+    public boolean bookingDates() {
+        return bookingDatesValidator.isValid(request, null);
+    }
+
+    @Benchmark
+    public LicenseResponse license() {
+        licenseValidator.validateLicense(license);
+        return license;
+    }
+}
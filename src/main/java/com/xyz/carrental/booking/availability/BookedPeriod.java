@@ -0,0 +1,14 @@
+package com.xyz.carrental.booking.availability;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+
+import java.time.LocalDate;
+
+/**
+ * The segment and rental days of an existing booking, as loaded into {@link FleetAvailabilityIndex}.
+ *
+ * @param carSegment booked car segment
+ * @param startDate  first rental day
+ * @param endDate    last rental day (inclusive)
+ */
+public record BookedPeriod(CarSegment carSegment, LocalDate startDate, LocalDate endDate) {}
@@ -0,0 +1,154 @@
+package com.xyz.carrental.booking.availability;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory index of booked cars per {@link CarSegment} and day, used to enforce fleet capacity.
+ * <p>
+ * Rules:
+ * - Each segment has a configured number of cars; a negative capacity means the segment is not limited (and not tracked)
+ * - A booking occupies one car on every day from its start date to its end date, inclusive
+ * - A reservation succeeds only if every one of its days is below capacity
+ * <p>
+ * Each day is a separate counter, bumped with compare-and-set, so a reservation costs O(days) and bookings for
+ * different days or segments never contend. Days are reserved in ascending order and rolled back on the first full day;
+ * a competing booking may therefore be rejected by a reservation that is itself about to roll back, but a day is never
+ * overbooked.
+ * <p>
+ * The index is rebuilt from the {@code bookings} table at startup, from bookings that have not yet ended.
+ */
+@Slf4j
+@Component
+public class FleetAvailabilityIndex {
+
+    private static final int UNLIMITED = -1;
+
+    private final Map<CarSegment, Integer> capacity = new EnumMap<>(CarSegment.class);
+    private final Map<CarSegment, ConcurrentHashMap<Long, AtomicInteger>> bookedPerDay = new EnumMap<>(CarSegment.class);
+
+    @Autowired
+    public FleetAvailabilityIndex(BookingRepository bookingRepository,
+                                  @Value("${booking.fleet.capacity.small:-1}") int small,
+                                  @Value("${booking.fleet.capacity.medium:-1}") int medium,
+                                  @Value("${booking.fleet.capacity.large:-1}") int large,
+                                  @Value("${booking.fleet.capacity.extralarge:-1}") int extraLarge) {
+        this(Map.of(CarSegment.SMALL, small, CarSegment.MEDIUM, medium,
+                CarSegment.LARGE, large, CarSegment.EXTRALARGE, extraLarge));
+        if (isLimited()) {
+            List<BookedPeriod> periods = bookingRepository.findBookedPeriodsEndingOnOrAfter(LocalDate.now());
+            load(periods);
+            log.info("Fleet availability index rebuilt from {} active bookings, capacity={}", periods.size(), capacity);
+        }
+    }
+
+    public FleetAvailabilityIndex(Map<CarSegment, Integer> capacityPerSegment) {
+        for (CarSegment segment : CarSegment.values()) {
+            capacity.put(segment, capacityPerSegment.getOrDefault(segment, UNLIMITED));
+            bookedPerDay.put(segment, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Reserves one car of the segment for every day of the period.
+     *
+     * @return {@code true} if the car was reserved, {@code false} if some day is already fully booked
+     */
+    public boolean tryReserve(CarSegment segment, LocalDate startDate, LocalDate endDate) {
+        int limit = capacity.get(segment);
+        if (limit < 0) {
+            return true;
+        }
+        ConcurrentHashMap<Long, AtomicInteger> days = bookedPerDay.get(segment);
+        long first = startDate.toEpochDay();
+        long last = endDate.toEpochDay();
+        for (long day = first; day <= last; day++) {
+            if (!increment(days.computeIfAbsent(day, d -> new AtomicInteger()), limit)) {
+                decrement(days, first, day - 1);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reserves one car of the segment for every day of the period.
+     *
+     * @throws BookingException if some day is already fully booked
+     */
+    public void reserve(CarSegment segment, LocalDate startDate, LocalDate endDate) {
+        if (!tryReserve(segment, startDate, endDate)) {
+            throw new BookingException("No " + segment + " cars available between " + startDate + " and " + endDate);
+        }
+    }
+
+    /**
+     * Releases a reservation made with {@link #tryReserve} or {@link #reserve}, e.g. when the booking could not be saved.
+     */
+    public void release(CarSegment segment, LocalDate startDate, LocalDate endDate) {
+        if (capacity.get(segment) >= 0) {
+            decrement(bookedPerDay.get(segment), startDate.toEpochDay(), endDate.toEpochDay());
+        }
+    }
+
+    /**
+     * Returns how many cars of the segment are booked on the given day.
+     */
+    public int booked(CarSegment segment, LocalDate day) {
+        AtomicInteger count = bookedPerDay.get(segment).get(day.toEpochDay());
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Adds existing bookings to the index without checking capacity.
+     */
+    public void load(Collection<BookedPeriod> periods) {
+        for (BookedPeriod period : periods) {
+            if (capacity.get(period.carSegment()) < 0) {
+                continue;
+            }
+            ConcurrentHashMap<Long, AtomicInteger> days = bookedPerDay.get(period.carSegment());
+            for (long day = period.startDate().toEpochDay(); day <= period.endDate().toEpochDay(); day++) {
+                days.computeIfAbsent(day, d -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+    }
+
+    private boolean isLimited() {
+        return capacity.values().stream().anyMatch(limit -> limit >= 0);
+    }
+
+    private static boolean increment(AtomicInteger count, int limit) {
+        while (true) {
+            int current = count.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static void decrement(ConcurrentHashMap<Long, AtomicInteger> days, long first, long last) {
+        for (long day = first; day <= last; day++) {
+            AtomicInteger count = days.get(day);
+            if (count != null) {
+                count.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.xyz.carrental.booking.cache;
+
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of booking details, keyed by booking ID.
+ * <p>
+ * Behaviour:
+ * - Bookings never change after confirmation, so entries do not expire
+ * - The cache is bounded by the estimated memory of its entries ({@code max-memory}); the oldest entries are evicted first
+ * - Lookups that fail (e.g. unknown booking IDs) are not cached
+ */
+@Slf4j
+@Component
+public class BookingDetailsCache {
+
+    // Record header, UUID, LocalDates, BigDecimal, two String headers and their arrays, rounded up
+    private static final long FIXED_ENTRY_BYTES = 320;
+
+    private final boolean enabled;
+    private final BoundedCache<UUID, BookingDetailsResponse> cache;
+
+    public BookingDetailsCache(@Value("${booking.details-cache.enabled:true}") boolean enabled,
+                               @Value("${booking.details-cache.max-memory:16MB}") DataSize maxMemory) {
+        this.enabled = enabled;
+        this.cache = new BoundedCache<>(maxMemory.toBytes(), BookingDetailsCache::estimatedBytes, System::nanoTime);
+    }
+
+    /**
+     * Returns the cached details for the booking, or loads and caches them through {@code loader}.
+     *
+     * @param id     the booking ID
+     * @param loader loads the booking details; may throw if the booking does not exist
+     * @return the booking details
+     */
+    public BookingDetailsResponse get(UUID id, Function<UUID, BookingDetailsResponse> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        BookingDetailsResponse cached = cache.get(id);
+        if (cached != null) {
+            log.debug("Booking details cache hit for bookingId={}", id);
+            return cached;
+        }
+        BookingDetailsResponse loaded = loader.apply(id);
+        cache.put(id, loaded);
+        return loaded;
+    }
+
+    /**
+     * Returns the cache counters, including the hit rate and the estimated memory in use ({@code weight}, in bytes).
+     */
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+
+    static long estimatedBytes(BookingDetailsResponse details) {
+        return FIXED_ENTRY_BYTES
+                + 2L * length(details.drivingLicenseNumber())
+                + 2L * length(details.customerName());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,157 @@
+package com.xyz.carrental.booking.cache;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Small lock-free in-process cache bounded by total weight, with optional per-entry TTL.
+ * <p>
+ * Rules:
+ * - Expired entries are dropped lazily when read
+ * - When the total weight exceeds the limit, the oldest inserted entries are evicted first
+ * - Weight defaults to 1 per entry, making the limit a maximum entry count
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Node<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong weight = new AtomicLong();
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(long maxSize) {
+        this(maxSize, value -> 1L, System::nanoTime);
+    }
+
+    public BoundedCache(long maxWeight, ToLongFunction<V> weigher, LongSupplier nanoClock) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the cached value, or {@code null} if it is absent or expired.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            if (entries.remove(key, entry)) {
+                weight.addAndGet(-entry.weight());
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Stores a value that never expires; it can still be evicted when the cache is full.
+     */
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Stores a value that expires after {@code ttl}; a {@code null} or non-positive TTL means no expiry.
+     */
+    public void put(K key, V value, Duration ttl) {
+        long expiresAt = ttl == null || ttl.isZero() || ttl.isNegative() ? 0L : nanoClock.getAsLong() + ttl.toNanos();
+        Entry<V> entry = new Entry<>(value, expiresAt, expiresAt != 0L, weigher.applyAsLong(value));
+        Entry<V> previous = entries.put(key, entry);
+        weight.addAndGet(entry.weight() - (previous == null ? 0 : previous.weight()));
+        insertionOrder.add(new Node<>(key, entry));
+        if (queued.incrementAndGet() > 2 * entries.size() + 64) {
+            pruneReplacedNodes();
+        }
+        evictIfNeeded();
+    }
+
+    public void invalidate(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight.addAndGet(-removed.weight());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), weight.get());
+    }
+
+    private void evictIfNeeded() {
+        while (weight.get() > maxWeight) {
+            Node<K, V> oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            if (entries.remove(oldest.key(), oldest.entry())) {
+                weight.addAndGet(-oldest.entry().weight());
+                evictions.increment();
+            }
+        }
+    }
+
+    // Overwritten keys leave their old node in the queue; drop those so the queue tracks the map size.
+    private void pruneReplacedNodes() {
+        insertionOrder.removeIf(node -> {
+            if (entries.get(node.key()) != node.entry()) {
+                queued.decrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private record Entry<V>(V value, long expiresAt, boolean expiring, long weight) {
+        boolean isExpired(long now) {
+            return expiring && now - expiresAt >= 0;
+        }
+    }
+
+    private record Node<K, V>(K key, Entry<V> entry) {}
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits      reads served from the cache
+     * @param misses    reads that found no live entry
+     * @param evictions entries removed to stay within the weight limit
+     * @param size      current number of entries
+     * @param weight    current total weight
+     */
+    public record Stats(long hits, long misses, long evictions, long size, long weight) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -1,28 +1,56 @@
 package com.xyz.carrental.booking.client;
 
+import com.xyz.carrental.booking.domain.CarSegment;
 import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.exception.UpstreamFailureException;
+import com.xyz.carrental.booking.jfr.UpstreamCallEvent;
 import com.xyz.carrental.booking.stub.model.RateResponse;
+import com.xyz.carrental.booking.resilience.UpstreamGuard;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Calls the Car Rental Pricing API as per OpenAPI spec.
  * POST /rental/rate
+ * <p>
+ * Rates for known segments are served from {@link SegmentRateCache}. While the API's circuit breaker is open,
+ * the cache keeps serving the last known rate for up to {@code max-stale}.
  */
 @Slf4j
 @Component
 public class CarPricingClient {
 
+    private static final String API_NAME = "car-pricing";
+
     private final WebClient webClient;
+    private final Duration timeout;
+    private final UpstreamGuard guard;
+    private final SegmentRateCache rateCache;
 
-    public CarPricingClient(@Value("${external.pricing.base-url}") String baseUrl) {
-        this.webClient = WebClient.builder().baseUrl(baseUrl).build();
+    /**
+     * @param webClientBuilder Spring Boot's builder, which adds {@code http.client.requests} metrics and the shared connector
+     * @param timeout          deadline for one call, from acquiring a connection to reading the whole response
+     * @param guard            circuit breaker and bulkhead for the API
+     */
+    public CarPricingClient(WebClient.Builder webClientBuilder,
+                            @Value("${external.pricing.base-url}") String baseUrl,
+                            SegmentRateCache rateCache,
+                            @Value("${external.pricing.timeout:3s}") Duration timeout,
+                            @Qualifier("pricingGuard") UpstreamGuard guard) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.timeout = timeout;
+        this.guard = guard;
+        this.rateCache = rateCache;
     }
 
     /**
@@ -32,26 +60,75 @@ public class CarPricingClient {
      * @return RateResponse containing category and ratePerDay
      */
     public RateResponse getRateForCategory(String category) {
+        return getRateForCategoryAsync(category).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getRateForCategory(String)}.
+     * <p>
+     * The returned {@link Mono} is lazy; the request is only sent on subscription, and only when the
+     * segment's rate is not already cached.
+     *
+     * @param category The car category (SMALL, MEDIUM, LARGE, EXTRA_LARGE)
+     * @return a {@link Mono} emitting the rate or a {@link BookingException}
+     */
+    public Mono<RateResponse> getRateForCategoryAsync(String category) {
+        CarSegment segment;
         try {
-            return webClient.post()
-                    .uri("/rental/rate")
-                    .bodyValue(Map.of("category", category))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(), response -> response.createException())
-                    .onStatus(status -> status.is5xxServerError(), response -> response.createException())
-                    .bodyToMono(RateResponse.class)
-                    .block();
+            segment = CarSegment.from(category);
+        } catch (IllegalArgumentException ex) {
+            // Unknown category: let the Pricing API reject it
+            return fetchRate(category);
+        }
+        return rateCache.get(segment, () -> fetchRate(category));
+    }
 
-        } catch (WebClientResponseException ex) {
-            if (ex.getStatusCode() == HttpStatus.BAD_REQUEST) {
-                throw new BookingException(parseErrorMessage(ex));
-            } else {
-                throw new BookingException("Car Pricing API error: " + parseErrorMessage(ex), ex);
-            }
+    /**
+     * Returns the segment's cached rate without calling the Pricing API on this thread; a missing or expiring
+     * rate is loaded in the background (see {@link SegmentRateCache#getCached}).
+     *
+     * @param segment the car segment
+     * @return the rate, or {@code null} if no usable rate is cached yet
+     */
+    public RateResponse getCachedRate(CarSegment segment) {
+        return rateCache.getCached(segment, () -> fetchRate(segment.name()));
+    }
 
-        } catch (Exception ex) {
-            throw new BookingException("Failed to call Car Pricing API", ex);
+    /**
+     * Starts loading the rate of every segment into the rate cache in the background.
+     *
+     * @return {@code false} if the rate cache is disabled, so {@link #getCachedRate} never returns a rate
+     */
+    public boolean preloadRates() {
+        return rateCache.preload(segment -> fetchRate(segment.name()));
+    }
+
+    private Mono<RateResponse> fetchRate(String category) {
+        return guard.protect(UpstreamCallEvent.record(API_NAME, category, null, webClient.post()
+                .uri("/rental/rate")
+                .bodyValue(Map.of("category", category))
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(), response -> response.createException())
+                .onStatus(status -> status.is5xxServerError(), response -> response.createException())
+                .bodyToMono(RateResponse.class)
+                .timeout(timeout)))
+                .onErrorMap(ex -> !(ex instanceof BookingException), this::toBookingException);
+    }
+
+    private BookingException toBookingException(Throwable ex) {
+        if (ex instanceof WebClientResponseException wex) {
+            if (wex.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                return new BookingException(parseErrorMessage(wex));
+            }
+            if (wex.getStatusCode().is5xxServerError()) {
+                return new UpstreamFailureException("Car Pricing API error: " + parseErrorMessage(wex), wex);
+            }
+            return new BookingException("Car Pricing API error: " + parseErrorMessage(wex), wex);
+        }
+        if (ex instanceof TimeoutException) {
+            return new UpstreamFailureException("Car Pricing API timed out", ex);
         }
+        return new UpstreamFailureException("Failed to call Car Pricing API", ex);
     }
 
     /**
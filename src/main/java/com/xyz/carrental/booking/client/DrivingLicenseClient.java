@@ -2,56 +2,107 @@ package com.xyz.carrental.booking.client;
 
 import com.xyz.carrental.booking.stub.model.LicenseResponse;
 import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.exception.LicenseNotFoundException;
+import com.xyz.carrental.booking.exception.UpstreamFailureException;
+import com.xyz.carrental.booking.jfr.UpstreamCallEvent;
+import com.xyz.carrental.booking.resilience.UpstreamGuard;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
 public class DrivingLicenseClient {
 
+    private static final String API_NAME = "driving-license";
+
     private final WebClient webClient;
+    private final Duration timeout;
+    private final UpstreamGuard guard;
+    private final LicenseCache licenseCache;
 
-    public DrivingLicenseClient(@Value("${external.driving-license.base-url}") String baseUrl) {
-        this.webClient = WebClient.builder().baseUrl(baseUrl).build();
+    /**
+     * @param webClientBuilder Spring Boot's builder, which adds {@code http.client.requests} metrics and the shared connector
+     * @param timeout          deadline for one call, from acquiring a connection to reading the whole response
+     * @param guard            circuit breaker and bulkhead for the API
+     */
+    public DrivingLicenseClient(WebClient.Builder webClientBuilder,
+                                @Value("${external.driving-license.base-url}") String baseUrl,
+                                LicenseCache licenseCache,
+                                @Value("${external.driving-license.timeout:3s}") Duration timeout,
+                                @Qualifier("drivingLicenseGuard") UpstreamGuard guard) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.timeout = timeout;
+        this.guard = guard;
+        this.licenseCache = licenseCache;
     }
 
     public LicenseResponse getLicenseDetails(String licenseNumber) {
+        return getLicenseDetailsAsync(licenseNumber).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getLicenseDetails(String)}.
+     * <p>
+     * The returned {@link Mono} is lazy; the request is only sent on subscription, so callers can
+     * combine it with other upstream lookups and let them run concurrently. Lookups go through
+     * {@link LicenseCache}, so repeated and concurrent lookups of one license reach the API at most once.
+     *
+     * @param licenseNumber the driving license number to look up
+     * @return a {@link Mono} emitting the license details or a {@link BookingException}, an
+     *         {@link UpstreamFailureException} if the API failed
+     */
+    public Mono<LicenseResponse> getLicenseDetailsAsync(String licenseNumber) {
+        return licenseCache.get(licenseNumber, () -> fetchLicense(licenseNumber));
+    }
+
+    private Mono<LicenseResponse> fetchLicense(String licenseNumber) {
         String maskedLicense = maskLicense(licenseNumber);
-        log.info("Calling Driving License API for license lookup: {}", maskedLicense);
-        try {
-            return webClient.post()
-                    .uri("/license/details")
-                    .bodyValue(Map.of("licenseNumber", licenseNumber))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(), response -> response.createException())
-                    .onStatus(status -> status.is5xxServerError(), response -> response.createException())
-                    .bodyToMono(LicenseResponse.class)
-                    .block();
+        return guard.protect(UpstreamCallEvent.record(API_NAME, null, licenseNumber, webClient.post()
+                .uri("/license/details")
+                .bodyValue(Map.of("licenseNumber", licenseNumber))
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(), response -> response.createException())
+                .onStatus(status -> status.is5xxServerError(), response -> response.createException())
+                .bodyToMono(LicenseResponse.class)
+                .timeout(timeout)))
+                .doOnSubscribe(s -> log.info("Calling Driving License API for license lookup: {}", maskedLicense))
+                .onErrorMap(ex -> !(ex instanceof BookingException), ex -> toBookingException(ex, licenseNumber, maskedLicense));
+    }
 
-        } catch (WebClientResponseException ex) {
-            String errorMsg = parseErrorMessage(ex);
+    private BookingException toBookingException(Throwable ex, String licenseNumber, String maskedLicense) {
+        if (ex instanceof WebClientResponseException wex) {
+            String errorMsg = parseErrorMessage(wex);
             // Handle different HTTP codes explicitly
-            if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
+            if (wex.getStatusCode() == HttpStatus.NOT_FOUND) {
                 log.warn("Driving license not found: {}", maskedLicense);
-                throw new BookingException("Driving license not found: " + licenseNumber);
-            } else if (ex.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                return new LicenseNotFoundException("Driving license not found: " + licenseNumber);
+            } else if (wex.getStatusCode() == HttpStatus.BAD_REQUEST) {
                 log.warn("Bad request to Driving License API for {}: {}", maskedLicense, errorMsg);
-                throw new BookingException(parseErrorMessage(ex));
+                return new BookingException(errorMsg);
+            } else if (wex.getStatusCode().is5xxServerError()) {
+                log.error("Error from Driving License API: {}", errorMsg);
+                return new UpstreamFailureException("Driving License API error: " + errorMsg, wex);
             } else {
                 log.error("Error from Driving License API: {}", errorMsg);
-                throw new BookingException("Driving License API error: " + parseErrorMessage(ex));
+                return new BookingException("Driving License API error: " + errorMsg, wex);
             }
-
-        } catch (Exception ex) {
-            log.error("Unexpected exception calling Driving License API for {}", maskedLicense, ex);
-            throw new BookingException("Failed to call Driving License API");
         }
+        if (ex instanceof TimeoutException) {
+            log.warn("Driving License API did not answer within {} for {}", timeout, maskedLicense);
+            return new UpstreamFailureException("Driving License API timed out", ex);
+        }
+        log.error("Unexpected exception calling Driving License API for {}", maskedLicense, ex);
+        return new UpstreamFailureException("Failed to call Driving License API", ex);
     }
 
     private String parseErrorMessage(WebClientResponseException ex) {
@@ -75,7 +126,7 @@ public class DrivingLicenseClient {
      * Masks license number to avoid logging sensitive data.
      * Example: DL123456789 -> DL*******89
      */
-    private String maskLicense(String licenseNumber) {
+    public static String maskLicense(String licenseNumber) {
         if (licenseNumber == null || licenseNumber.length() < 4) return "****";
         int len = licenseNumber.length();
         return licenseNumber.substring(0, 2) + "*".repeat(len - 4) + licenseNumber.substring(len - 2);
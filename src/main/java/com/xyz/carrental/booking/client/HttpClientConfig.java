@@ -0,0 +1,73 @@
+package com.xyz.carrental.booking.client;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Outbound HTTP connector shared by the upstream API clients.
+ * <p>
+ * Spring Boot applies this connector to every auto-configured {@code WebClient.Builder}. Its connection pool
+ * publishes {@code reactor.netty.connection.provider.*} gauges (active, idle, pending connections).
+ * <p>
+ * Behaviour (all settings under {@code external.http}):
+ * - At most {@code max-connections} connections per upstream host; further requests wait for a connection
+ * - At most {@code pending-acquire-max-count} requests wait, each for at most {@code pending-acquire-timeout};
+ *   beyond that requests fail immediately instead of queueing behind a slow upstream
+ * - Idle connections are closed after {@code max-idle-time}, and every connection after {@code max-life-time},
+ *   by a background sweep every {@code evict-interval}
+ * - {@code connect-timeout} bounds the TCP connect, {@code response-timeout} the wait for the response once the
+ *   request is sent; the overall deadline of a call is set per upstream (see the API clients)
+ * - Responses are requested gzip-compressed; {@code protocols} enables HTTP/2 ({@code H2} over TLS, {@code H2C}
+ *   in clear text), falling back to HTTP/1.1 when listed as well
+ */
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(
+            @Value("${external.http.max-connections:100}") int maxConnections,
+            @Value("${external.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${external.http.pending-acquire-timeout:500ms}") Duration pendingAcquireTimeout,
+            @Value("${external.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${external.http.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${external.http.evict-interval:30s}") Duration evictInterval) {
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector upstreamClientHttpConnector(
+            ConnectionProvider upstreamConnectionProvider,
+            @Value("${external.http.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${external.http.response-timeout:2s}") Duration responseTimeout,
+            @Value("${external.http.compress:true}") boolean compress,
+            @Value("${external.http.protocols:HTTP11}") HttpProtocol[] protocols) {
+        log.info("Upstream HTTP client: protocols={}, connectTimeout={}, responseTimeout={}, compress={}",
+                Arrays.toString(protocols), connectTimeout, responseTimeout, compress);
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(responseTimeout)
+                .compress(compress)
+                .protocol(protocols);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+}
@@ -0,0 +1,113 @@
+package com.xyz.carrental.booking.client;
+
+import com.xyz.carrental.booking.cache.BoundedCache;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.exception.LicenseNotFoundException;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches Driving License API lookups by license number.
+ * <p>
+ * Behaviour:
+ * - Found licenses are cached for {@code ttl}, "not found" answers for the shorter {@code negative-ttl}
+ * - The cache is bounded by {@code max-size}; the oldest entries are evicted first
+ * - Concurrent misses for the same license share a single in-flight upstream call
+ * <p>
+ * Raw license numbers are never used as keys: entries are keyed by a SHA-256 digest of the license number,
+ * and logs only ever show the masked form.
+ */
+@Slf4j
+@Component
+public class LicenseCache {
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final BoundedCache<String, CachedLicense> cache;
+    private final ConcurrentHashMap<String, Mono<LicenseResponse>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    public LicenseCache(@Value("${external.driving-license.cache.enabled:true}") boolean enabled,
+                        @Value("${external.driving-license.cache.max-size:10000}") long maxSize,
+                        @Value("${external.driving-license.cache.ttl:5m}") Duration ttl,
+                        @Value("${external.driving-license.cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.cache = new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * Returns the cached lookup for the license, or loads it through {@code loader}.
+     *
+     * @param licenseNumber the driving license number
+     * @param loader        supplies a lazy upstream call for the license
+     * @return a {@link Mono} emitting the license details or a {@link BookingException}
+     */
+    public Mono<LicenseResponse> get(String licenseNumber, Supplier<Mono<LicenseResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = cacheKey(licenseNumber);
+        CachedLicense cached = cache.get(key);
+        if (cached != null) {
+            log.debug("License cache hit for {}", DrivingLicenseClient.maskLicense(licenseNumber));
+            return cached.toMono();
+        }
+
+        Mono<LicenseResponse> existing = inFlight.get(key);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        return inFlight.computeIfAbsent(key, k -> loader.get()
+                .doOnNext(license -> cache.put(k, new CachedLicense(license, null), ttl))
+                .doOnError(LicenseNotFoundException.class,
+                        ex -> cache.put(k, new CachedLicense(null, ex.getMessage()), negativeTtl))
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    /**
+     * Returns the cache counters.
+     */
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns how many lookups joined an upstream call already in flight for the same license.
+     */
+    public long coalescedLookups() {
+        return coalesced.sum();
+    }
+
+    private static String cacheKey(String licenseNumber) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(licenseNumber.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record CachedLicense(LicenseResponse license, String notFoundMessage) {
+        Mono<LicenseResponse> toMono() {
+            return license != null ? Mono.just(license) : Mono.error(new LicenseNotFoundException(notFoundMessage));
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.xyz.carrental.booking.client;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of daily rates, one slot per {@link CarSegment}.
+ * <p>
+ * Behaviour:
+ * - A rate younger than the TTL is served from memory
+ * - Within the refresh-ahead window before expiry, a single background reload is started while the cached rate is still served
+ * - Each segment has at most one load in flight: concurrent lookups of a missing or expired rate, and background
+ *   reloads, share it, so an expiry under load causes a single Pricing API call
+ * - If a reload fails, the last known rate is served for at most {@code max-stale} past its expiry
+ * - All segment rates can be preloaded at startup ({@link #preload}), which cache-only lookups rely on
+ * <p>
+ * Slots are created up front and never added or removed, so the backing {@link EnumMap} is only ever read
+ * concurrently and no locking is needed.
+ */
+@Slf4j
+@Component
+public class SegmentRateCache {
+
+    private final Map<CarSegment, Slot> slots = new EnumMap<>(CarSegment.class);
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final long maxStaleNanos;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    @Autowired
+    public SegmentRateCache(@Value("${external.pricing.cache.enabled:true}") boolean enabled,
+                            @Value("${external.pricing.cache.ttl:10m}") Duration ttl,
+                            @Value("${external.pricing.cache.refresh-ahead:1m}") Duration refreshAhead,
+                            @Value("${external.pricing.cache.max-stale:30m}") Duration maxStale) {
+        this(enabled, ttl, refreshAhead, maxStale, System::nanoTime);
+    }
+
+    public SegmentRateCache(boolean enabled, Duration ttl, Duration refreshAhead, Duration maxStale, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = Math.min(refreshAhead.toNanos(), ttlNanos);
+        this.maxStaleNanos = maxStale.toNanos();
+        this.nanoClock = nanoClock;
+        for (CarSegment segment : CarSegment.values()) {
+            slots.put(segment, new Slot());
+        }
+    }
+
+    /**
+     * Returns the rate for the segment, loading it through {@code loader} when it is missing or expired.
+     *
+     * @param segment the car segment
+     * @param loader  supplies a lazy upstream call for the segment's rate
+     * @return a {@link Mono} emitting the cached or freshly loaded rate
+     */
+    public Mono<RateResponse> get(CarSegment segment, Supplier<Mono<RateResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Slot slot = slots.get(segment);
+        Entry entry = slot.entry;
+        if (entry != null) {
+            long age = nanoClock.getAsLong() - entry.loadedAt();
+            if (age < ttlNanos) {
+                hits.increment();
+                if (age >= ttlNanos - refreshAheadNanos) {
+                    refreshInBackground(segment, slot, loader);
+                }
+                return Mono.just(entry.rate());
+            }
+        }
+
+        misses.increment();
+        return Mono.defer(() -> sharedLoad(slot, loader))
+                .onErrorResume(ex -> {
+                    RateResponse stale = staleRate(slot);
+                    if (stale == null) {
+                        return Mono.error(ex);
+                    }
+                    staleHits.increment();
+                    log.warn("Pricing API unavailable, serving last known rate for segment={}: {}", segment, ex.getMessage());
+                    return Mono.just(stale);
+                });
+    }
+
+    /**
+     * Returns the rate for the segment from memory only, never waiting for the Pricing API.
+     * <p>
+     * When the rate is missing, expired or due for refresh-ahead, a single background load is started through
+     * {@code loader}; an expired rate is still returned for up to {@code max-stale}.
+     *
+     * @param segment the car segment
+     * @param loader  supplies a lazy upstream call for the segment's rate
+     * @return the cached rate, or {@code null} if there is none yet, it is too stale, or the cache is disabled
+     */
+    public RateResponse getCached(CarSegment segment, Supplier<Mono<RateResponse>> loader) {
+        if (!enabled) {
+            return null;
+        }
+        Slot slot = slots.get(segment);
+        Entry entry = slot.entry;
+        long age = entry == null ? Long.MAX_VALUE : nanoClock.getAsLong() - entry.loadedAt();
+        if (age < ttlNanos - refreshAheadNanos) {
+            hits.increment();
+            return entry.rate();
+        }
+        refreshInBackground(segment, slot, loader);
+        if (age < ttlNanos) {
+            hits.increment();
+            return entry.rate();
+        }
+        if (entry != null && age < ttlNanos + maxStaleNanos) {
+            staleHits.increment();
+            return entry.rate();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Starts a background load of every segment rate not cached yet, so that cache-only lookups
+     * ({@link #getCached}) can be answered from the first request on.
+     *
+     * @param loader supplies a lazy upstream call for a segment's rate
+     * @return {@code false} if the cache is disabled and nothing was loaded
+     */
+    public boolean preload(Function<CarSegment, Mono<RateResponse>> loader) {
+        if (!enabled) {
+            return false;
+        }
+        for (Map.Entry<CarSegment, Slot> slot : slots.entrySet()) {
+            if (slot.getValue().entry == null) {
+                refreshInBackground(slot.getKey(), slot.getValue(), () -> loader.apply(slot.getKey()));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns cache counters.
+     *
+     * @return a snapshot of hit, miss, stale and refresh counts
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), coalesced.sum(), staleHits.sum(), refreshes.sum(),
+                refreshFailures.sum());
+    }
+
+    private void refreshInBackground(CarSegment segment, Slot slot, Supplier<Mono<RateResponse>> loader) {
+        Mono<RateResponse> load = slot.loading.get() == null ? startLoad(slot, loader) : null;
+        if (load == null) {
+            return;
+        }
+        refreshes.increment();
+        load.subscribe(
+                rate -> {},
+                ex -> {
+                    refreshFailures.increment();
+                    log.warn("Background rate refresh failed for segment={}: {}", segment, ex.getMessage());
+                });
+    }
+
+    /**
+     * Joins the segment's load in flight, or starts one.
+     */
+    private Mono<RateResponse> sharedLoad(Slot slot, Supplier<Mono<RateResponse>> loader) {
+        while (true) {
+            Mono<RateResponse> inFlight = slot.loading.get();
+            if (inFlight != null) {
+                coalesced.increment();
+                return inFlight;
+            }
+            Mono<RateResponse> started = startLoad(slot, loader);
+            if (started != null) {
+                return started;
+            }
+        }
+    }
+
+    /**
+     * Starts a load that stores the rate in the slot and is shared with every lookup until it completes.
+     *
+     * @return the new load, or {@code null} if another one was started first
+     */
+    private Mono<RateResponse> startLoad(Slot slot, Supplier<Mono<RateResponse>> loader) {
+        Mono<RateResponse> load = loader.get()
+                .doOnNext(rate -> slot.entry = new Entry(rate, nanoClock.getAsLong()))
+                .doFinally(signal -> slot.loading.set(null))
+                .cache();
+        return slot.loading.compareAndSet(null, load) ? load : null;
+    }
+
+    private RateResponse staleRate(Slot slot) {
+        Entry entry = slot.entry;
+        if (entry == null) {
+            return null;
+        }
+        long age = nanoClock.getAsLong() - entry.loadedAt();
+        return age < ttlNanos + maxStaleNanos ? entry.rate() : null;
+    }
+
+    private static final class Slot {
+        private volatile Entry entry;
+        private final AtomicReference<Mono<RateResponse>> loading = new AtomicReference<>();
+    }
+
+    private record Entry(RateResponse rate, long loadedAt) {}
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits            requests served from a fresh entry
+     * @param misses          requests that found no fresh rate and waited for a load
+     * @param coalesced       misses that joined a load already in flight instead of calling the Pricing API
+     * @param staleHits       failed loads and cache-only lookups answered with the last known rate after it expired
+     * @param refreshes       background refreshes started
+     * @param refreshFailures background refreshes that failed
+     */
+    public record Stats(long hits, long misses, long coalesced, long staleHits, long refreshes, long refreshFailures) {}
+}
@@ -0,0 +1,41 @@
+package com.xyz.carrental.booking.controller;
+
+import com.xyz.carrental.booking.dto.AuthTokenResponse;
+import com.xyz.carrental.booking.security.AuthTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller issuing bearer tokens.
+ * <p>
+ * Clients authenticate once with Basic Auth and then send the token instead, which is verified without BCrypt.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthTokenService authTokenService;
+
+    /**
+     * Issues a bearer token for the user authenticated with Basic Auth.
+     *
+     * @param authentication the authenticated user
+     * @return {@link AuthTokenResponse} with the token and its lifetime
+     */
+    @PostMapping("/token")
+    public ResponseEntity<AuthTokenResponse> issueToken(Authentication authentication) {
+        AuthTokenService.IssuedToken issued = authTokenService.issue(authentication);
+        log.info("Issued bearer token for user={}", authentication.getName());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new AuthTokenResponse(issued.token(), "Bearer", issued.expiresIn().toSeconds()));
+    }
+}
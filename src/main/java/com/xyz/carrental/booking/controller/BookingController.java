@@ -1,55 +1,202 @@
 package com.xyz.carrental.booking.controller;
 
+import com.xyz.carrental.booking.dto.BatchBookingResponse;
+import com.xyz.carrental.booking.domain.CarSegment;
 import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.BookingPageResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+import com.xyz.carrental.booking.dto.BookingStatusResponse;
 import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
 import com.xyz.carrental.booking.dto.ConfirmBookingResponse;
+import com.xyz.carrental.booking.dto.ExportFormat;
+import com.xyz.carrental.booking.intake.BookingIntake;
+import com.xyz.carrental.booking.service.BookingBatchService;
+import com.xyz.carrental.booking.service.BookingExportService;
+import com.xyz.carrental.booking.service.BookingSearchService;
 import com.xyz.carrental.booking.service.BookingService;
+import com.xyz.carrental.booking.timing.StageTimings;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * REST controller for handling car booking operations.
  * Provides endpoints to confirm and retrieve booking details.
+ * <p>
+ * Sampled responses carry a {@code Server-Timing} header (see {@link com.xyz.carrental.booking.timing.ServerTimingFilter}).
  */
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/bookings")
 @RequiredArgsConstructor
 public class BookingController {
+    // Bookings never change once confirmed; "private" because details are only served to authenticated users
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
     private final BookingService bookingService;
+    private final BookingBatchService bookingBatchService;
+    private final BookingSearchService bookingSearchService;
+    private final BookingExportService bookingExportService;
+    private final BookingIntake bookingIntake;
 
     /**
      * Confirms a new car booking request.
+     * <p>
+     * With the asynchronous intake enabled, the request is only validated and queued: the response is 202 Accepted,
+     * with the booking ID and the status URL in {@code Location}.
      *
      * @param request the booking confirmation request payload
+     * @param timings stage timings for the {@code Server-Timing} header
      * @return {@link ConfirmBookingResponse} containing the generated booking ID
      */
     @PostMapping
-    public ResponseEntity<ConfirmBookingResponse> confirmBooking(@Valid @RequestBody ConfirmBookingRequest request) {
+    public ResponseEntity<ConfirmBookingResponse> confirmBooking(@Valid @RequestBody ConfirmBookingRequest request,
+                                                                 StageTimings timings) {
         log.info("Received booking request for carSegment: {}", request.carSegment());
-        UUID bookingId = bookingService.confirmBooking(request);
+        if (bookingIntake.isEnabled()) {
+            UUID bookingId = bookingIntake.submit(request);
+            log.info("Booking queued with bookingId={}", bookingId);
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}/status").buildAndExpand(bookingId).toUri())
+                    .body(new ConfirmBookingResponse(bookingId));
+        }
+        UUID bookingId = bookingService.confirmBooking(request, timings);
         log.info("Booking confirmed successfully with bookingId={}", bookingId);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new ConfirmBookingResponse(bookingId));
     }
 
+    /**
+     * Confirms a batch of car bookings.
+     * <p>
+     * Each booking is processed independently; the response reports the outcome of every item.
+     *
+     * @param requests the booking confirmation requests
+     * @return {@link BatchBookingResponse} with per-booking results, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchBookingResponse> confirmBookings(@RequestBody List<ConfirmBookingRequest> requests) {
+        log.info("Received batch booking request with {} bookings", requests.size());
+        BatchBookingResponse response = bookingBatchService.confirmBookings(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Searches bookings, one page at a time.
+     * <p>
+     * All filters are optional; {@code from} and {@code to} bound the booking start date (inclusive).
+     * To fetch the next page, repeat the request with {@code cursor} set to the previous page's {@code nextCursor}.
+     *
+     * @param license the driving license number
+     * @param from    earliest start date
+     * @param to      latest start date
+     * @param segment the car segment
+     * @param cursor  cursor returned with the previous page
+     * @param limit   page size
+     * @param timings stage timings for the {@code Server-Timing} header
+     * @return {@link BookingPageResponse} with the bookings and the cursor for the next page
+     */
+    @GetMapping
+    public ResponseEntity<BookingPageResponse> searchBookings(
+            @RequestParam(name = "license", required = false) String license,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "segment", required = false) CarSegment segment,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            StageTimings timings) {
+        log.info("Searching bookings for carSegment={} from={} to={}", segment, from, to);
+        long start = System.nanoTime();
+        BookingPageResponse page = bookingSearchService.searchBookings(
+                new BookingSearchCriteria(license, from, to, segment), cursor, limit);
+        timings.record(StageTimings.Metric.DB, start);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Exports all bookings matching the filters as NDJSON (one JSON object per line) or CSV.
+     * <p>
+     * The body is streamed as bookings are read from the database; {@code from} and {@code to} bound the booking
+     * start date (inclusive).
+     *
+     * @param format   {@code ndjson} (default) or {@code csv}
+     * @param from     earliest start date
+     * @param to       latest start date
+     * @param segment  the car segment
+     * @param response the response to stream the bookings to
+     * @throws IOException if the client disconnects during the export
+     */
+    @GetMapping("/export")
+    public void exportBookings(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "segment", required = false) CarSegment segment,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings." + exportFormat.fileExtension() + "\"");
+        bookingExportService.export(new BookingSearchCriteria(null, from, to, segment), exportFormat, response.getOutputStream());
+    }
+
     /**
      * Retrieves booking details by booking ID.
+     * <p>
+     * Bookings are immutable, so the ETag is derived from the booking ID alone: a request whose {@code If-None-Match}
+     * matches is answered with 304 without loading the booking.
      *
-     * @param id the unique booking identifier
-     * @return {@link BookingDetailsResponse} containing booking information
+     * @param id         the unique booking identifier
+     * @param webRequest the current request, used for the conditional check
+     * @param timings    stage timings for the {@code Server-Timing} header
+     * @return {@link BookingDetailsResponse} containing booking information, or 304 if the client's copy is current
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BookingDetailsResponse> getBookingDetails(@PathVariable("id") UUID id) {
+    public ResponseEntity<BookingDetailsResponse> getBookingDetails(@PathVariable("id") UUID id, WebRequest webRequest,
+                                                                    StageTimings timings) {
+        String etag = etag(id);
+        if (webRequest.checkNotModified(etag)) {
+            log.debug("Booking details not modified for bookingId={}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+        }
         log.info("Fetching booking details for bookingId={}", id);
-        BookingDetailsResponse resp = bookingService.getBookingDetails(id);
-        log.debug("Booking details retrieved: {}", resp);
-        return ResponseEntity.ok(resp);
+        BookingDetailsResponse resp = bookingService.getBookingDetails(id, timings);
+        return ResponseEntity.ok().eTag(etag).cacheControl(IMMUTABLE).body(resp);
+    }
+
+    /**
+     * Returns the processing status of a booking accepted by the asynchronous intake.
+     * <p>
+     * Bookings confirmed synchronously, or whose status has expired from memory, are reported as confirmed if saved.
+     *
+     * @param id the booking ID
+     * @return {@link BookingStatusResponse}, or 404 if the booking is unknown
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<BookingStatusResponse> getBookingStatus(@PathVariable("id") UUID id) {
+        BookingStatusResponse status = bookingIntake.status(id);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(status);
+    }
+
+    private static String etag(UUID id) {
+        return "\"" + id + "\"";
     }
 }
@@ -0,0 +1,66 @@
+package com.xyz.carrental.booking.controller;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.QuoteResponse;
+import com.xyz.carrental.booking.exception.BookingValidationException;
+import com.xyz.carrental.booking.service.QuoteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * REST controller for price quotes.
+ * <p>
+ * Quotes are answered from cached rates, without creating a booking. Parameters are parsed here rather than by
+ * Spring, so that malformed values are reported as 400 like other validation errors.
+ */
+@RestController
+@RequestMapping("/api/v1/quotes")
+@RequiredArgsConstructor
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    /**
+     * Quotes the total price of a rental.
+     *
+     * @param segment car segment, e.g. {@code MEDIUM} or {@code extra_large}
+     * @param start   first rental day (ISO date)
+     * @param end     last rental day (ISO date)
+     * @return {@link QuoteResponse} with the daily rate and the total price
+     */
+    @GetMapping
+    public ResponseEntity<QuoteResponse> quote(@RequestParam(name = "segment", required = false) String segment,
+                                               @RequestParam(name = "start", required = false) String start,
+                                               @RequestParam(name = "end", required = false) String end) {
+        return ResponseEntity.ok(quoteService.quote(segment(segment), date("start", start), date("end", end)));
+    }
+
+    private static CarSegment segment(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CarSegment.from(value);
+        } catch (IllegalArgumentException ex) {
+            throw new BookingValidationException(ex.getMessage());
+        }
+    }
+
+    private static LocalDate date(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BookingValidationException("Invalid " + name + " date: " + value);
+        }
+    }
+}
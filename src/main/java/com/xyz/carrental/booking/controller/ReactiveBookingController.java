@@ -0,0 +1,53 @@
+package com.xyz.carrental.booking.controller;
+
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.dto.ConfirmBookingResponse;
+import com.xyz.carrental.booking.service.ReactiveBookingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of {@link BookingController}.
+ * <p>
+ * Returns {@link Mono} results, so the servlet thread is released while the upstream APIs and the
+ * database are being called; the response is written asynchronously once the booking completes.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/reactive/bookings")
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+    private final ReactiveBookingService reactiveBookingService;
+
+    /**
+     * Confirms a new car booking request.
+     *
+     * @param request the booking confirmation request payload
+     * @return {@link ConfirmBookingResponse} containing the generated booking ID
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ConfirmBookingResponse> confirmBooking(@Valid @RequestBody ConfirmBookingRequest request) {
+        log.info("Received reactive booking request for carSegment: {}", request.carSegment());
+        return reactiveBookingService.confirmBooking(request)
+                .map(ConfirmBookingResponse::new);
+    }
+
+    /**
+     * Retrieves booking details by booking ID.
+     *
+     * @param id the unique booking identifier
+     * @return {@link BookingDetailsResponse} containing booking information
+     */
+    @GetMapping("/{id}")
+    public Mono<BookingDetailsResponse> getBookingDetails(@PathVariable("id") UUID id) {
+        return reactiveBookingService.getBookingDetails(id);
+    }
+}
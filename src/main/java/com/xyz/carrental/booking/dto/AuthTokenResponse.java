@@ -0,0 +1,10 @@
+package com.xyz.carrental.booking.dto;
+
+/**
+ * Response payload of {@code POST /auth/token}.
+ *
+ * @param accessToken the bearer token to send as {@code Authorization: Bearer <token>}
+ * @param tokenType   always {@code Bearer}
+ * @param expiresIn   seconds until the token expires
+ */
+public record AuthTokenResponse(String accessToken, String tokenType, long expiresIn) {}
@@ -0,0 +1,32 @@
+package com.xyz.carrental.booking.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a single booking within a batch request.
+ *
+ * @param index     position of the booking in the submitted batch (0-based)
+ * @param status    whether the booking was confirmed
+ * @param bookingId ID of the confirmed booking, or {@code null} if it failed
+ * @param error     reason for the failure, or {@code null} if it was confirmed
+ */
+public record BatchBookingItemResult(
+        int index,
+        Status status,
+        UUID bookingId,
+        String error
+) {
+
+    public enum Status {
+        CONFIRMED,
+        FAILED
+    }
+
+    public static BatchBookingItemResult confirmed(int index, UUID bookingId) {
+        return new BatchBookingItemResult(index, Status.CONFIRMED, bookingId, null);
+    }
+
+    public static BatchBookingItemResult failed(int index, String error) {
+        return new BatchBookingItemResult(index, Status.FAILED, null, error);
+    }
+}
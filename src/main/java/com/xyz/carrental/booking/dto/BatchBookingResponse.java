@@ -0,0 +1,16 @@
+package com.xyz.carrental.booking.dto;
+
+import java.util.List;
+
+/**
+ * Response payload for a batch booking request.
+ *
+ * @param confirmed number of bookings confirmed
+ * @param failed    number of bookings that failed
+ * @param results   per-booking outcome, in the order the bookings were submitted
+ */
+public record BatchBookingResponse(
+        int confirmed,
+        int failed,
+        List<BatchBookingItemResult> results
+) {}
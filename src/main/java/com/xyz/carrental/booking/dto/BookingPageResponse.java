@@ -0,0 +1,14 @@
+package com.xyz.carrental.booking.dto;
+
+import java.util.List;
+
+/**
+ * One page of booking search results.
+ *
+ * @param bookings   the bookings on this page, ordered by start date and then booking ID
+ * @param nextCursor opaque cursor for the next page, or {@code null} if this is the last page
+ */
+public record BookingPageResponse(
+        List<BookingDetailsResponse> bookings,
+        String nextCursor
+) {}
@@ -0,0 +1,20 @@
+package com.xyz.carrental.booking.dto;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for searching bookings; {@code null} fields are not applied.
+ *
+ * @param drivingLicenseNumber only bookings made with this driving license
+ * @param from                 only bookings starting on or after this date
+ * @param to                   only bookings starting on or before this date
+ * @param carSegment           only bookings for this car segment
+ */
+public record BookingSearchCriteria(
+        String drivingLicenseNumber,
+        LocalDate from,
+        LocalDate to,
+        CarSegment carSegment
+) {}
@@ -0,0 +1,28 @@
+package com.xyz.carrental.booking.dto;
+
+import java.util.UUID;
+
+/**
+ * Response payload for the processing status of a booking accepted by the asynchronous intake.
+ *
+ * @param bookingId the booking ID returned when the request was accepted
+ * @param status    where the booking is in processing
+ * @param message   why the booking failed; {@code null} otherwise
+ */
+public record BookingStatusResponse(UUID bookingId, Status status, String message) {
+
+    public enum Status {
+        /** Waiting in the intake queue. */
+        QUEUED,
+        /** Being confirmed by a worker. */
+        PROCESSING,
+        /** Confirmed and saved; details are available under {@code /api/v1/bookings/{id}}. */
+        CONFIRMED,
+        /** Rejected, e.g. for an invalid license or a fully booked segment. */
+        FAILED
+    }
+
+    public static BookingStatusResponse of(UUID bookingId, Status status) {
+        return new BookingStatusResponse(bookingId, status, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.xyz.carrental.booking.dto;
+
+import com.xyz.carrental.booking.exception.BookingValidationException;
+
+/**
+ * Output formats supported by the booking export.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format name, case-insensitively.
+     *
+     * @throws BookingValidationException if the format is not supported
+     */
+    public static ExportFormat from(String s) {
+        return switch (s == null ? "" : s.strip().toUpperCase()) {
+            case "NDJSON", "JSONL" -> NDJSON;
+            case "CSV" -> CSV;
+            default -> throw new BookingValidationException("Unsupported export format: " + s);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.xyz.carrental.booking.dto;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Response payload for a price quote.
+ * <p>
+ * A quote is not binding: the price is calculated again, from the current rate, when the booking is confirmed.
+ *
+ * @param carSegment the quoted car segment
+ * @param startDate  first rental day
+ * @param endDate    last rental day
+ * @param days       number of rental days, start and end date inclusive
+ * @param ratePerDay the segment's current daily rate
+ * @param totalPrice the total rental price, including pricing rules
+ */
+public record QuoteResponse(CarSegment carSegment,
+                            LocalDate startDate,
+                            LocalDate endDate,
+                            long days,
+                            BigDecimal ratePerDay,
+                            BigDecimal totalPrice) {}
@@ -14,15 +14,22 @@ import java.util.UUID;
  * Contains customer, booking, and pricing details, mapped to the {@code bookings} table.
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Each search index ends in (start_date, id): the keyset order used for pagination
+        @Index(name = "idx_bookings_license_start", columnList = "driving_license_number, start_date, id"),
+        @Index(name = "idx_bookings_segment_start", columnList = "car_segment, start_date, id"),
+        @Index(name = "idx_bookings_start", columnList = "start_date, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Booking {
 
+    /**
+     * Assigned by the application (see {@link com.xyz.carrental.booking.id.BookingIdGenerator}) before persisting.
+     */
     @Id
-    @GeneratedValue
     private UUID id;
 
     @Column(name = "driving_license_number", nullable = false)
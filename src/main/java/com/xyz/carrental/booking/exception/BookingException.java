@@ -20,9 +20,9 @@ public class BookingException extends RuntimeException {
      * Constructs a new {@code BookingException} with the specified detail message and cause.
      *
      * @param message the detail message
-     * @param ex      the cause of the exception
+     * @param cause   the cause of the exception
      */
-    public BookingException(String message, Exception ex){
-        super(message, ex);
+    public BookingException(String message, Throwable cause){
+        super(message, cause);
     }
 }
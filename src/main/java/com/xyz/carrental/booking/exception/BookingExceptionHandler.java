@@ -2,6 +2,7 @@ package com.xyz.carrental.booking.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -79,6 +80,43 @@ public class BookingExceptionHandler {
         );
     }
 
+    /**
+     * Handles {@link UpstreamUnavailableException}, raised when an upstream API is not called because it is failing.
+     *
+     * @param ex the upstream unavailable exception
+     * @return a 503 error response with the exception message
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        log.warn("Upstream unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of(
+                        "timestamp", Instant.now(),
+                        "status", HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "error", "Service Unavailable",
+                        "message", ex.getMessage()
+                ));
+    }
+
+    /**
+     * Handles {@link IntakeRejectedException}, raised when the asynchronous intake queue is full or shutting down.
+     *
+     * @param ex the intake rejected exception
+     * @return a 503 error response asking the client to retry after a second
+     */
+    @ExceptionHandler(IntakeRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleIntakeRejectedException(IntakeRejectedException ex) {
+        log.warn("Booking not queued: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "timestamp", Instant.now(),
+                        "status", HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "error", "Service Unavailable",
+                        "message", ex.getMessage()
+                ));
+    }
+
     /**
      * Handles general {@link BookingException}.
      *
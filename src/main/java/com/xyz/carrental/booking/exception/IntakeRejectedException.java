@@ -0,0 +1,19 @@
+package com.xyz.carrental.booking.exception;
+
+/**
+ * Thrown when the asynchronous booking intake cannot accept a request, because its queue is full or the service
+ * is shutting down.
+ * <p>
+ * Answered with 503 Service Unavailable and a {@code Retry-After} header, since the request itself is valid.
+ */
+public class IntakeRejectedException extends BookingException {
+
+    /**
+     * Constructs a new {@code IntakeRejectedException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public IntakeRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.xyz.carrental.booking.exception;
+
+/**
+ * Thrown when the Driving License API reports that a license does not exist.
+ * <p>
+ * Handled like any other {@link BookingException}; the distinct type lets callers cache the negative result.
+ */
+public class LicenseNotFoundException extends BookingException {
+
+    /**
+     * Constructs a new {@code LicenseNotFoundException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public LicenseNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.xyz.carrental.booking.exception;
+
+/**
+ * Thrown when a call to an upstream API fails for a reason unrelated to the request: a 5xx response, a timeout or
+ * an I/O error.
+ * <p>
+ * Answered like any {@link BookingException}; the asynchronous intake retries it, since the same request may succeed
+ * once the upstream recovers.
+ */
+public class UpstreamFailureException extends BookingException {
+
+    /**
+     * Constructs a new {@code UpstreamFailureException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public UpstreamFailureException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new {@code UpstreamFailureException} with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause of the exception
+     */
+    public UpstreamFailureException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.xyz.carrental.booking.exception;
+
+/**
+ * Thrown without calling an upstream API, because its circuit breaker is open or its bulkhead is full, or because
+ * a request served from cached upstream data (a price quote) finds none.
+ * <p>
+ * Answered with 503 Service Unavailable rather than 400, since the request itself may be valid.
+ */
+public class UpstreamUnavailableException extends BookingException {
+
+    /**
+     * Constructs a new {@code UpstreamUnavailableException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
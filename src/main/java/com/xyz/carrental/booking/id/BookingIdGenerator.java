@@ -0,0 +1,17 @@
+package com.xyz.carrental.booking.id;
+
+import java.util.UUID;
+
+/**
+ * Generates booking IDs in the application, before the booking is persisted.
+ * <p>
+ * The implementation is selected with {@code booking.id-generator} ({@code time-ordered} or {@code random}).
+ */
+@FunctionalInterface
+public interface BookingIdGenerator {
+
+    /**
+     * Returns a new unique booking ID.
+     */
+    UUID nextId();
+}
@@ -0,0 +1,19 @@
+package com.xyz.carrental.booking.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Generates random (version 4) UUIDs, as {@code @GeneratedValue} did before.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.id-generator", havingValue = "random")
+public class RandomUuidGenerator implements BookingIdGenerator {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,55 @@
+package com.xyz.carrental.booking.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * Layout: 48-bit Unix epoch milliseconds, version, 12-bit sequence, variant, 62 random bits.
+ * <p>
+ * Rules:
+ * - IDs generated by one instance are strictly increasing, even within the same millisecond
+ * - If the sequence overflows, or the clock moves backwards, the timestamp part is advanced instead
+ * - Generation is lock-free (a single CAS on the last timestamp and sequence)
+ * <p>
+ * New bookings therefore land at the right-hand edge of the primary key index instead of random pages.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.id-generator", havingValue = "time-ordered", matchIfMissing = true)
+public class TimeOrderedUuidGenerator implements BookingIdGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    // Epoch milliseconds << 12 | sequence of the last generated ID
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+    private final LongSupplier millisClock;
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    public TimeOrderedUuidGenerator(LongSupplier millisClock) {
+        this.millisClock = millisClock;
+    }
+
+    @Override
+    public UUID nextId() {
+        long candidate = millisClock.getAsLong() << SEQUENCE_BITS;
+        long next = lastTimestampAndSequence.updateAndGet(last -> Math.max(candidate, last + 1));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long msb = (timestamp << 16) | VERSION_7 | (next & SEQUENCE_MASK);
+        long lsb = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(msb, lsb);
+    }
+}
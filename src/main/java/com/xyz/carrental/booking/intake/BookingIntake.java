@@ -0,0 +1,526 @@
+package com.xyz.carrental.booking.intake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xyz.carrental.booking.cache.BoundedCache;
+import com.xyz.carrental.booking.dto.BookingStatusResponse;
+import com.xyz.carrental.booking.dto.BookingStatusResponse.Status;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.exception.IntakeRejectedException;
+import com.xyz.carrental.booking.exception.UpstreamFailureException;
+import com.xyz.carrental.booking.exception.UpstreamUnavailableException;
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.service.BookingService;
+import com.xyz.carrental.booking.timing.StageTimings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional asynchronous intake for booking confirmations ({@code booking.async-intake.enabled}).
+ * <p>
+ * Behaviour:
+ * - {@link #submit} assigns the booking ID and puts the request on a bounded queue; when no slot frees up within
+ *   {@code enqueue-timeout}, the request is rejected with 503 so that clients back off
+ * - A fixed pool of {@code workers} confirms queued bookings through {@link BookingService}, under the assigned ID
+ * - A failure that may go away (upstream unavailable or timing out, database error) is retried by the same worker up
+ *   to {@code max-attempts} times, with a backoff doubling from {@code retry-backoff}. While an upstream is down the
+ *   workers back off, the queue fills up and new requests get 503, rather than queued bookings failing. Rejections
+ *   of the booking itself (invalid license, no cars available) fail at once
+ * - The status of each booking is kept in memory for {@code status-ttl}; older or unknown IDs are looked up in the
+ *   database
+ * <p>
+ * On graceful shutdown, after the web server has stopped taking requests, the workers keep draining the queue for up
+ * to {@code drain-timeout}. Workers still busy shortly after that are interrupted. Bookings still queued, bookings
+ * failing or backing off during shutdown, and bookings still in progress are written to {@code spill-file} and queued
+ * again on the next start; a booking deferred after the file was written is appended to it. A replayed booking that
+ * was already saved is not confirmed twice.
+ */
+@Slf4j
+@Component
+public class BookingIntake implements SmartLifecycle {
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final BookingIdGenerator bookingIdGenerator;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int workers;
+    private final long enqueueTimeoutNanos;
+    private final Duration drainTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration statusTtl;
+    private final Path spillFile;
+
+    private final BlockingQueue<QueuedBooking> queue;
+    private final BoundedCache<UUID, BookingStatusResponse> statuses;
+    // Read-locked by submit, write-locked to stop accepting, so nothing is queued after the queue was spilled
+    private final ReentrantReadWriteLock intakeLock = new ReentrantReadWriteLock();
+    // Bookings in the hands of a worker, spilled if still there when the workers do not stop in time
+    private final Map<UUID, QueuedBooking> inProgress = new ConcurrentHashMap<>();
+    // Guards deferred and spilled: a booking deferred once the spill file was written is appended to it directly
+    private final ReentrantLock spillLock = new ReentrantLock();
+    private final List<QueuedBooking> deferred = new ArrayList<>();
+    private boolean spilled;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedShuttingDown = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTotalNanos = new LongAdder();
+
+    private volatile boolean accepting;
+    private volatile boolean stopping;
+    private volatile boolean draining;
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    public BookingIntake(BookingService bookingService,
+                         BookingRepository bookingRepository,
+                         BookingIdGenerator bookingIdGenerator,
+                         ObjectMapper objectMapper,
+                         @Value("${booking.async-intake.enabled:false}") boolean enabled,
+                         @Value("${booking.async-intake.queue-capacity:1000}") int queueCapacity,
+                         @Value("${booking.async-intake.workers:8}") int workers,
+                         @Value("${booking.async-intake.enqueue-timeout:0ms}") Duration enqueueTimeout,
+                         @Value("${booking.async-intake.drain-timeout:10s}") Duration drainTimeout,
+                         @Value("${booking.async-intake.max-attempts:5}") int maxAttempts,
+                         @Value("${booking.async-intake.retry-backoff:1s}") Duration retryBackoff,
+                         @Value("${booking.async-intake.status-max-size:100000}") long statusMaxSize,
+                         @Value("${booking.async-intake.status-ttl:1h}") Duration statusTtl,
+                         @Value("${booking.async-intake.spill-file:booking-intake-spill.jsonl}") Path spillFile) {
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.bookingIdGenerator = bookingIdGenerator;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.drainTimeout = drainTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.statusTtl = statusTtl;
+        this.spillFile = spillFile;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = new BoundedCache<>(statusMaxSize);
+    }
+
+    /**
+     * Returns whether bookings are confirmed asynchronously.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a validated booking request for confirmation.
+     *
+     * @param request the booking request, already validated
+     * @return the ID the booking will be saved under
+     * @throws IntakeRejectedException if the queue stays full for {@code enqueue-timeout}, or the service is stopping
+     */
+    public UUID submit(ConfirmBookingRequest request) {
+        QueuedBooking booking = new QueuedBooking(bookingIdGenerator.nextId(), request, Instant.now(), false);
+        // Before queueing, so that a worker's update is never overwritten
+        statuses.put(booking.bookingId(), BookingStatusResponse.of(booking.bookingId(), Status.QUEUED), statusTtl);
+        intakeLock.readLock().lock();
+        try {
+            if (!accepting) {
+                rejectedShuttingDown.increment();
+                throw new IntakeRejectedException("Booking service is shutting down, please retry");
+            }
+            if (!queue.offer(booking, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejectedQueueFull.increment();
+                throw new IntakeRejectedException("Too many pending bookings, please retry shortly");
+            }
+            accepted.increment();
+            return booking.bookingId();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            statuses.invalidate(booking.bookingId());
+            throw new IntakeRejectedException("Booking was not queued, please retry");
+        } catch (IntakeRejectedException ex) {
+            statuses.invalidate(booking.bookingId());
+            throw ex;
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the processing status of a booking.
+     *
+     * @param bookingId the booking ID
+     * @return the status, or {@code null} if the booking is neither known to the intake nor saved
+     */
+    public BookingStatusResponse status(UUID bookingId) {
+        BookingStatusResponse status = statuses.get(bookingId);
+        if (status != null) {
+            return status;
+        }
+        return bookingRepository.existsById(bookingId) ? BookingStatusResponse.of(bookingId, Status.CONFIRMED) : null;
+    }
+
+    @Override
+    public void start() {
+        if (enabled) {
+            stopping = false;
+            draining = true;
+            spillLock.lock();
+            try {
+                spilled = false;
+            } finally {
+                spillLock.unlock();
+            }
+            executor = Executors.newFixedThreadPool(workers, new IntakeThreadFactory());
+            for (int i = 0; i < workers; i++) {
+                executor.execute(this::work);
+            }
+            replay();
+            accepting = true;
+            log.info("Asynchronous booking intake started: queueCapacity={}, workers={}", queue.remainingCapacity(), workers);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!enabled) {
+            return;
+        }
+        stopping = true;
+        intakeLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        log.info("Draining booking intake: {} queued, {} in progress", queue.size(), inProgress.size());
+
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            while (!queue.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            draining = false;
+            executor.shutdown();
+            long grace = Math.min(drainTimeout.toNanos(), TimeUnit.SECONDS.toNanos(5));
+            if (!executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0) + grace, TimeUnit.NANOSECONDS)) {
+                // Interrupt workers blocked on an upstream or backing off, so they defer their bookings and stop
+                // before the database is closed
+                log.warn("Interrupting booking intake workers: bookingIds={} still in progress", inProgress.keySet());
+                executor.shutdownNow();
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        spill();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server has stopped taking requests (with {@code server.shutdown=graceful}), so no accepted
+     * request is turned away, and before the web server and the database are closed.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1;
+    }
+
+    private void work() {
+        while (draining) {
+            try {
+                QueuedBooking booking = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (booking != null) {
+                    process(booking);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Unexpected error in booking intake worker", ex);
+            }
+        }
+    }
+
+    private void process(QueuedBooking booking) {
+        UUID bookingId = booking.bookingId();
+        waitCount.increment();
+        waitTotalNanos.add(Math.max(Duration.between(booking.acceptedAt(), Instant.now()).toNanos(), 0));
+        inProgress.put(bookingId, booking);
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    if (booking.replayed() && bookingRepository.existsById(bookingId)) {
+                        statuses.put(bookingId, BookingStatusResponse.of(bookingId, Status.CONFIRMED), statusTtl);
+                        return;
+                    }
+                    statuses.put(bookingId, BookingStatusResponse.of(bookingId, Status.PROCESSING), statusTtl);
+                    bookingService.confirmBooking(booking.request(), bookingId, StageTimings.NONE);
+                    confirmed.increment();
+                    statuses.put(bookingId, BookingStatusResponse.of(bookingId, Status.CONFIRMED), statusTtl);
+                    return;
+                } catch (RuntimeException ex) {
+                    if (!retry(booking, ex, attempt)) {
+                        return;
+                    }
+                }
+            }
+        } finally {
+            inProgress.remove(bookingId);
+        }
+    }
+
+    /**
+     * Handles a failed attempt: backs off before a retry, defers the booking to the next start during shutdown, or
+     * marks it failed.
+     *
+     * @return whether to try again
+     */
+    private boolean retry(QueuedBooking booking, RuntimeException ex, int attempt) {
+        UUID bookingId = booking.bookingId();
+        if (isTransient(ex)) {
+            if (stopping) {
+                // Upstream or database going away with the shutdown: retry on the next start
+                defer(booking);
+                return false;
+            }
+            if (attempt < maxAttempts) {
+                Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+                retried.increment();
+                statuses.put(bookingId, BookingStatusResponse.of(bookingId, Status.QUEUED), statusTtl);
+                log.warn("Queued booking {} failed on attempt {}, retrying in {}: {}", bookingId, attempt, backoff,
+                        ex.getMessage());
+                if (backOff(backoff)) {
+                    return true;
+                }
+                defer(booking);
+                return false;
+            }
+        }
+        failed.increment();
+        log.warn("Queued booking {} failed: {}", bookingId, ex.getMessage());
+        statuses.put(bookingId, new BookingStatusResponse(bookingId, Status.FAILED, ex.getMessage()), statusTtl);
+        return false;
+    }
+
+    /**
+     * Waits for {@code backoff}; returns {@code false} as soon as the intake starts stopping.
+     */
+    private boolean backOff(Duration backoff) {
+        long deadline = System.nanoTime() + backoff.toNanos();
+        try {
+            while (!stopping) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    return true;
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.min(left, TimeUnit.MILLISECONDS.toNanos(50)));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Whether a failure may go away on retry; rejections of the booking itself (invalid license, no cars) may not.
+     * Upstream clients raise {@link UpstreamFailureException} for 5xx responses, timeouts and I/O errors.
+     */
+    private static boolean isTransient(RuntimeException ex) {
+        return !(ex instanceof BookingException)
+                || ex instanceof UpstreamUnavailableException
+                || ex instanceof UpstreamFailureException;
+    }
+
+    private void defer(QueuedBooking booking) {
+        statuses.put(booking.bookingId(), BookingStatusResponse.of(booking.bookingId(), Status.QUEUED), statusTtl);
+        spillLock.lock();
+        try {
+            if (spilled) {
+                write(List.of(booking));
+            } else {
+                deferred.add(booking);
+            }
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the deferred and queued bookings, and those still in progress, to the spill file. Bookings in progress
+     * may yet be saved by their worker; replay skips them then.
+     */
+    private void spill() {
+        spillLock.lock();
+        try {
+            List<QueuedBooking> remaining = new ArrayList<>(deferred);
+            deferred.clear();
+            queue.drainTo(remaining);
+            List<QueuedBooking> running = List.copyOf(inProgress.values());
+            if (!running.isEmpty()) {
+                log.warn("Booking intake workers did not stop: saving bookingIds={} still in progress for the next start",
+                        running.stream().map(QueuedBooking::bookingId).toList());
+                remaining.addAll(running);
+            }
+            write(remaining);
+            spilled = true;
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void write(List<QueuedBooking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        try {
+            if (spillFile.getParent() != null) {
+                Files.createDirectories(spillFile.getParent());
+            }
+        } catch (IOException ex) {
+            log.error("Failed to create the directory of {}", spillFile, ex);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (QueuedBooking booking : bookings) {
+                writer.write(objectMapper.writeValueAsString(booking));
+                writer.newLine();
+            }
+            log.info("Saved {} queued bookings to {} for the next start", bookings.size(), spillFile);
+        } catch (IOException ex) {
+            log.error("Failed to save {} queued bookings to {}; lost bookingIds={}", bookings.size(), spillFile,
+                    bookings.stream().map(QueuedBooking::bookingId).toList(), ex);
+        }
+    }
+
+    private void replay() {
+        if (!Files.exists(spillFile)) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+            // A booking in progress at shutdown may be written twice: when spilled, and when its worker deferred it
+            Set<UUID> seen = new HashSet<>();
+            int replayed = 0;
+            for (String line : lines) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    QueuedBooking booking = objectMapper.readValue(line, QueuedBooking.class).replay();
+                    if (!seen.add(booking.bookingId())) {
+                        continue;
+                    }
+                    statuses.put(booking.bookingId(), BookingStatusResponse.of(booking.bookingId(), Status.QUEUED), statusTtl);
+                    queue.put(booking);
+                    replayed++;
+                } catch (IOException ex) {
+                    log.error("Skipping unreadable entry in {}: {}", spillFile, ex.getMessage());
+                }
+            }
+            Files.delete(spillFile);
+            log.info("Queued {} bookings saved at the last shutdown", replayed);
+        } catch (IOException ex) {
+            log.error("Failed to read queued bookings from {}", spillFile, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of bookings waiting in the queue.
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of free queue slots.
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Returns how long the oldest queued booking has been waiting, in seconds; 0 if the queue is empty.
+     */
+    public double oldestWaitSeconds() {
+        QueuedBooking oldest = queue.peek();
+        return oldest == null ? 0 : Duration.between(oldest.acceptedAt(), Instant.now()).toNanos() / 1e9;
+    }
+
+    /**
+     * Returns intake counters.
+     */
+    public Stats stats() {
+        return new Stats(accepted.sum(), rejectedQueueFull.sum(), rejectedShuttingDown.sum(), confirmed.sum(),
+                failed.sum(), retried.sum(), waitCount.sum(), waitTotalNanos.sum());
+    }
+
+    /**
+     * Snapshot of intake counters.
+     *
+     * @param accepted             requests queued
+     * @param rejectedQueueFull    requests rejected because the queue was full
+     * @param rejectedShuttingDown requests rejected during shutdown
+     * @param confirmed            queued bookings confirmed
+     * @param failed               queued bookings rejected by the booking rules, or still failing after all attempts
+     * @param retried              attempts retried after a failure that may go away
+     * @param waitCount            queued bookings taken by a worker
+     * @param waitTotalNanos       total time those bookings spent in the queue
+     */
+    public record Stats(long accepted, long rejectedQueueFull, long rejectedShuttingDown, long confirmed, long failed,
+                        long retried, long waitCount, long waitTotalNanos) {}
+
+    private static final class IntakeThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "booking-intake-" + count.incrementAndGet());
+            // Daemon, so that a context failing to start cannot keep the JVM alive
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
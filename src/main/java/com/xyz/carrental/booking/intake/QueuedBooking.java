@@ -0,0 +1,21 @@
+package com.xyz.carrental.booking.intake;
+
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A booking request waiting in the intake queue; written to the spill file as one JSON line on shutdown.
+ *
+ * @param bookingId  the ID returned to the client
+ * @param request    the validated booking request
+ * @param acceptedAt when the request was accepted
+ * @param replayed   whether the request was read back from the spill file, and so may already have been saved
+ */
+record QueuedBooking(UUID bookingId, ConfirmBookingRequest request, Instant acceptedAt, boolean replayed) {
+
+    QueuedBooking replay() {
+        return new QueuedBooking(bookingId, request, acceptedAt, true);
+    }
+}
@@ -0,0 +1,54 @@
+package com.xyz.carrental.booking.jfr;
+
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.domain.CarSegment;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one booking confirmation, from the upstream lookups to the saved booking.
+ * <p>
+ * Usage: {@link #start()} before the work and {@link #end} in a {@code finally} block. When the event is disabled
+ * both calls are no-ops and fields, including the masked license, are never computed.
+ */
+@Name("com.xyz.carrental.booking.Confirmation")
+@Label("Booking Confirmation")
+@Category({"Car Rental", "Booking"})
+@Description("Confirmation of one booking")
+@StackTrace(false)
+public class BookingConfirmationEvent extends Event {
+
+    @Label("Segment")
+    String segment;
+
+    @Label("License")
+    @Description("Masked driving license number")
+    String license;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static BookingConfirmationEvent start() {
+        BookingConfirmationEvent event = new BookingConfirmationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it is enabled and above its threshold.
+     *
+     * @param error the exception that ended the confirmation, or {@code null} on success
+     */
+    public void end(CarSegment segment, String licenseNumber, Throwable error) {
+        if (shouldCommit()) {
+            this.segment = segment == null ? null : segment.name();
+            this.license = DrivingLicenseClient.maskLicense(licenseNumber);
+            this.outcome = JfrOutcome.of(error);
+            commit();
+        }
+    }
+}
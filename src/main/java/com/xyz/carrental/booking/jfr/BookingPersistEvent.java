@@ -0,0 +1,50 @@
+package com.xyz.carrental.booking.jfr;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one booking write transaction, including the commit.
+ */
+@Name("com.xyz.carrental.booking.Persist")
+@Label("Booking Persist")
+@Category({"Car Rental", "Booking"})
+@Description("Transaction saving one booking or one batch of bookings")
+@StackTrace(false)
+public class BookingPersistEvent extends Event {
+
+    @Label("Segment")
+    @Description("Segment of the booking; empty for batches")
+    String segment;
+
+    @Label("Bookings")
+    int bookings;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static BookingPersistEvent start() {
+        BookingPersistEvent event = new BookingPersistEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param segment  the booking's segment, or {@code null} for a batch
+     * @param bookings number of bookings written
+     * @param error    the exception that failed the write, or {@code null} on success
+     */
+    public void end(CarSegment segment, int bookings, Throwable error) {
+        if (shouldCommit()) {
+            this.segment = segment == null ? null : segment.name();
+            this.bookings = bookings;
+            this.outcome = JfrOutcome.of(error);
+            commit();
+        }
+    }
+}
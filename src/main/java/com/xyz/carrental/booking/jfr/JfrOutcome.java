@@ -0,0 +1,26 @@
+package com.xyz.carrental.booking.jfr;
+
+import com.xyz.carrental.booking.exception.BookingException;
+
+/**
+ * Outcome values recorded in the booking JFR events.
+ */
+final class JfrOutcome {
+    static final String SUCCESS = "SUCCESS";
+    static final String REJECTED = "REJECTED";
+    static final String FAILED = "FAILED";
+    static final String CANCELLED = "CANCELLED";
+
+    private JfrOutcome() {
+    }
+
+    /**
+     * Business rejections ({@link BookingException}) are told apart from unexpected failures.
+     */
+    static String of(Throwable error) {
+        if (error == null) {
+            return SUCCESS;
+        }
+        return error instanceof BookingException ? REJECTED : FAILED;
+    }
+}
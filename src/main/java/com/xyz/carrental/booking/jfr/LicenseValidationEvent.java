@@ -0,0 +1,41 @@
+package com.xyz.carrental.booking.jfr;
+
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one driving license validation.
+ */
+@Name("com.xyz.carrental.booking.LicenseValidation")
+@Label("License Validation")
+@Category({"Car Rental", "Booking"})
+@Description("Validation of a driving license returned by the Driving License API")
+@StackTrace(false)
+public class LicenseValidationEvent extends Event {
+
+    @Label("License")
+    @Description("Masked driving license number")
+    String license;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static LicenseValidationEvent start() {
+        LicenseValidationEvent event = new LicenseValidationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void end(String licenseNumber, Throwable error) {
+        if (shouldCommit()) {
+            this.license = DrivingLicenseClient.maskLicense(licenseNumber);
+            this.outcome = JfrOutcome.of(error);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.xyz.carrental.booking.jfr;
+
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * JFR event for one HTTP call to an upstream API (cache hits are not recorded).
+ * <p>
+ * The event starts when the call is subscribed to and is committed on the thread that completes it.
+ * Outcomes: {@code SUCCESS}, {@code REJECTED} (4xx response), {@code FAILED} (5xx response, timeout or I/O error)
+ * and {@code CANCELLED} (e.g. the other lookup of a confirmation failed first).
+ */
+@Name("com.xyz.carrental.booking.UpstreamCall")
+@Label("Upstream API Call")
+@Category({"Car Rental", "Upstream"})
+@Description("HTTP call to the Driving License or Car Pricing API")
+@StackTrace(false)
+public class UpstreamCallEvent extends Event {
+
+    @Label("API")
+    String api;
+
+    @Label("Segment")
+    @Description("Requested car segment (Car Pricing API only)")
+    String segment;
+
+    @Label("License")
+    @Description("Masked driving license number (Driving License API only)")
+    String license;
+
+    @Label("HTTP Status")
+    @Description("Status of an error response; 0 for success or when no response was received")
+    int status;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Wraps a lazy upstream call so that each subscription is recorded as one event.
+     * <p>
+     * When the event type is disabled, {@code call} is returned as is.
+     *
+     * @param api           the upstream API name
+     * @param segment       the requested segment, or {@code null}
+     * @param licenseNumber the unmasked license number, or {@code null}; it is masked before being recorded
+     * @param call          the raw upstream call, before its errors are mapped to booking exceptions
+     */
+    public static <T> Mono<T> record(String api, String segment, String licenseNumber, Mono<T> call) {
+        return Mono.defer(() -> {
+            UpstreamCallEvent event = new UpstreamCallEvent();
+            if (!event.isEnabled()) {
+                return call;
+            }
+            event.begin();
+            return call
+                    .doOnSuccess(value -> event.end(api, segment, licenseNumber, JfrOutcome.SUCCESS, 0))
+                    .doOnError(ex -> {
+                        if (ex instanceof WebClientResponseException wex) {
+                            String outcome = wex.getStatusCode().is4xxClientError() ? JfrOutcome.REJECTED : JfrOutcome.FAILED;
+                            event.end(api, segment, licenseNumber, outcome, wex.getStatusCode().value());
+                        } else {
+                            event.end(api, segment, licenseNumber, JfrOutcome.FAILED, 0);
+                        }
+                    })
+                    .doOnCancel(() -> event.end(api, segment, licenseNumber, JfrOutcome.CANCELLED, 0));
+        });
+    }
+
+    private void end(String api, String segment, String licenseNumber, String outcome, int status) {
+        if (shouldCommit()) {
+            this.api = api;
+            this.segment = segment;
+            this.license = licenseNumber == null ? null : DrivingLicenseClient.maskLicense(licenseNumber);
+            this.status = status;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.xyz.carrental.booking.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps how many INFO and lower events each hot-path logger writes per second; events over the cap are dropped
+ * before a logging event is even created.
+ * <p>
+ * Rules:
+ * - Only loggers under one of the configured {@code loggers} prefixes (comma-separated) are sampled
+ * - Each such logger may write {@code maxEventsPerSecond} INFO/DEBUG/TRACE events per second; WARN and ERROR
+ *   always pass
+ * - Events below the logger's level are left to Logback and do not use up the budget
+ * - {@code maxEventsPerSecond <= 0} disables sampling
+ * <p>
+ * Configured in {@code logback-spring.xml}.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final ConcurrentHashMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongSupplier nanoClock;
+    private List<String> prefixes = List.of();
+    private int maxEventsPerSecond;
+
+    public LogSamplingTurboFilter() {
+        this(System::nanoTime);
+    }
+
+    public LogSamplingTurboFilter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which must not use up the budget
+        if (format == null || maxEventsPerSecond <= 0 || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        if (!isSampled(name)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (tryAcquire(windows.computeIfAbsent(name, n -> new AtomicLong()))) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Counts one event against the logger's current one-second window.
+     * The window's second and its event count are packed in one long, so both change in a single CAS.
+     */
+    private boolean tryAcquire(AtomicLong window) {
+        long second = nanoClock.getAsLong() / NANOS_PER_SECOND;
+        while (true) {
+            long current = window.get();
+            long count = (current >>> 32) == (second & COUNT_MASK) ? current & COUNT_MASK : 0;
+            if (count >= maxEventsPerSecond) {
+                return false;
+            }
+            if (window.compareAndSet(current, ((second & COUNT_MASK) << 32) | (count + 1))) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isSampled(String name) {
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns how many events were dropped by sampling.
+     */
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    public void setLoggers(String loggers) {
+        List<String> parsed = new ArrayList<>();
+        for (String logger : loggers.split(",")) {
+            if (!logger.isBlank()) {
+                parsed.add(logger.trim());
+            }
+        }
+        this.prefixes = List.copyOf(parsed);
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+}
@@ -13,11 +13,12 @@ public interface BookingMapper {
      */
     @Mapping(target = "customerName", source = "ownerName")
     @Mapping(target = "rentalPrice", source = "rentalPrice")
-    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "id", source = "id")
     @Mapping(target = "createdAt", ignore = true)
     Booking toBooking(ConfirmBookingRequest request,
                       String ownerName,
-                      java.math.BigDecimal rentalPrice);
+                      java.math.BigDecimal rentalPrice,
+                      java.util.UUID id);
 
     /**
      * Maps Booking entity to BookingDetailsResponse DTO.
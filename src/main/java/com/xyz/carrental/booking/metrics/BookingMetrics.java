@@ -0,0 +1,105 @@
+package com.xyz.carrental.booking.metrics;
+
+import com.xyz.carrental.booking.timing.StageTimings;
+import com.xyz.carrental.booking.timing.StageTimings.Metric;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency timers for the stages of confirming and reading a booking, published as {@code booking.stage}
+ * with {@code operation} and {@code stage} tags and a percentile histogram.
+ * <p>
+ * All timers are registered up front, so recording a stage is an {@link EnumMap} read plus a timer update,
+ * with no registry lookup or tag allocation on the request path.
+ * <p>
+ * Stages can also be added to a request's {@link StageTimings}, which maps them to {@code Server-Timing} metrics.
+ */
+@Component
+public class BookingMetrics {
+
+    /**
+     * A timed stage of a booking operation.
+     */
+    public enum Stage {
+        CONFIRM_TOTAL("confirm", "total", null),
+        LICENSE_LOOKUP("confirm", "license_lookup", Metric.LICENSE),
+        RATE_LOOKUP("confirm", "rate_lookup", Metric.PRICING),
+        LICENSE_VALIDATION("confirm", "license_validation", Metric.VALIDATE),
+        PRICE_CALCULATION("confirm", "price_calculation", Metric.PRICING),
+        PERSIST("confirm", "persist", Metric.DB),
+        DETAILS_TOTAL("details", "total", null),
+        DETAILS_LOAD("details", "load", Metric.DB);
+
+        private final String operation;
+        private final String stage;
+        private final Metric serverTiming;
+
+        Stage(String operation, String stage, Metric serverTiming) {
+            this.operation = operation;
+            this.stage = stage;
+            this.serverTiming = serverTiming;
+        }
+    }
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    public BookingMetrics(MeterRegistry registry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder("booking.stage")
+                    .description("Duration of a booking operation stage")
+                    .tag("operation", stage.operation)
+                    .tag("stage", stage.stage)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, taken from {@link System#nanoTime()}.
+     */
+    public void record(Stage stage, long startNanos) {
+        record(stage, startNanos, StageTimings.NONE);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, and adds it to the request's {@code timings}.
+     */
+    public void record(Stage stage, long startNanos, StageTimings timings) {
+        long elapsed = System.nanoTime() - startNanos;
+        timers.get(stage).record(elapsed, TimeUnit.NANOSECONDS);
+        timings.add(stage.serverTiming, elapsed);
+    }
+
+    /**
+     * Times {@code mono} from subscription until it completes, fails or is cancelled.
+     */
+    public <T> Mono<T> time(Stage stage, Mono<T> mono) {
+        return time(stage, mono, StageTimings.NONE);
+    }
+
+    /**
+     * Times {@code mono} from subscription until it completes, fails or is cancelled, and adds the duration to the
+     * request's {@code timings} when it terminates.
+     */
+    public <T> Mono<T> time(Stage stage, Mono<T> mono, StageTimings timings) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            // doOnTerminate runs before the result is passed downstream, so the timing is in place once it is consumed
+            return mono.doOnTerminate(() -> timings.record(stage.serverTiming, start))
+                    .doFinally(signal -> record(stage, start));
+        });
+    }
+
+    /**
+     * Returns the timer for a stage, e.g. for tests.
+     */
+    public Timer timer(Stage stage) {
+        return timers.get(stage);
+    }
+}
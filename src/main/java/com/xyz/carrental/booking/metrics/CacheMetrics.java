@@ -0,0 +1,75 @@
+package com.xyz.carrental.booking.metrics;
+
+import com.xyz.carrental.booking.cache.BookingDetailsCache;
+import com.xyz.carrental.booking.cache.BoundedCache;
+import com.xyz.carrental.booking.client.LicenseCache;
+import com.xyz.carrental.booking.client.SegmentRateCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the counters of the in-process caches as {@code booking.cache.*} meters, tagged by {@code cache}.
+ * <p>
+ * Meters read the caches' own counters when scraped, so the caches need no Micrometer code. The meters hold
+ * strong references to their suppliers, which would otherwise be garbage collected.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics implements MeterBinder {
+    private final LicenseCache licenseCache;
+    private final SegmentRateCache segmentRateCache;
+    private final BookingDetailsCache bookingDetailsCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindBoundedCache(registry, "license", licenseCache::stats);
+        bindBoundedCache(registry, "booking_details", bookingDetailsCache::stats);
+        FunctionCounter.builder("booking.cache.coalesced", licenseCache, LicenseCache::coalescedLookups)
+                .description("Lookups that joined an upstream call already in flight")
+                .tag("cache", "license")
+                .register(registry);
+        FunctionCounter.builder("booking.cache.coalesced", segmentRateCache, cache -> cache.stats().coalesced())
+                .description("Lookups that joined an upstream call already in flight")
+                .tag("cache", "segment_rate")
+                .register(registry);
+
+        counter(registry, "segment_rate", "hits", () -> segmentRateCache.stats().hits());
+        counter(registry, "segment_rate", "misses", () -> segmentRateCache.stats().misses());
+        counter(registry, "segment_rate", "stale_hits", () -> segmentRateCache.stats().staleHits());
+        counter(registry, "segment_rate", "refreshes", () -> segmentRateCache.stats().refreshes());
+        counter(registry, "segment_rate", "refresh_failures", () -> segmentRateCache.stats().refreshFailures());
+    }
+
+    private static void bindBoundedCache(MeterRegistry registry, String cache, Supplier<BoundedCache.Stats> stats) {
+        counter(registry, cache, "hits", () -> stats.get().hits());
+        counter(registry, cache, "misses", () -> stats.get().misses());
+        counter(registry, cache, "evictions", () -> stats.get().evictions());
+        Gauge.builder("booking.cache.size", stats, s -> s.get().size())
+                .tag("cache", cache)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("booking.cache.weight", stats, s -> s.get().weight())
+                .description("Total entry weight; estimated bytes for the booking details cache")
+                .tag("cache", cache)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("booking.cache.hit.ratio", stats, s -> s.get().hitRate())
+                .tag("cache", cache)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String cache, String name, LongSupplier value) {
+        FunctionCounter.builder("booking.cache." + name, value, LongSupplier::getAsLong)
+                .tag("cache", cache)
+                .strongReference(true)
+                .register(registry);
+    }
+}
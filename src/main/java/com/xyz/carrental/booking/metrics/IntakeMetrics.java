@@ -0,0 +1,62 @@
+package com.xyz.carrental.booking.metrics;
+
+import com.xyz.carrental.booking.intake.BookingIntake;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the state of the asynchronous booking intake as {@code booking.intake.*} meters, when it is enabled.
+ * <p>
+ * Meters read the intake's own counters when scraped, as in {@link CacheMetrics}.
+ */
+@Component
+@RequiredArgsConstructor
+public class IntakeMetrics implements MeterBinder {
+    private final BookingIntake intake;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!intake.isEnabled()) {
+            return;
+        }
+        Gauge.builder("booking.intake.queue.depth", intake, BookingIntake::queueDepth)
+                .description("Bookings waiting for a worker")
+                .register(registry);
+        Gauge.builder("booking.intake.queue.remaining", intake, BookingIntake::remainingCapacity)
+                .description("Free queue slots; requests are rejected with 503 at zero")
+                .register(registry);
+        TimeGauge.builder("booking.intake.queue.oldest.age", intake, TimeUnit.SECONDS, BookingIntake::oldestWaitSeconds)
+                .description("How long the oldest queued booking has been waiting")
+                .register(registry);
+        FunctionTimer.builder("booking.intake.wait", intake,
+                        i -> i.stats().waitCount(), i -> i.stats().waitTotalNanos(), TimeUnit.NANOSECONDS)
+                .description("Time bookings spent in the queue before a worker took them")
+                .register(registry);
+
+        counter(registry, "booking.intake.accepted", null, null, BookingIntake.Stats::accepted);
+        counter(registry, "booking.intake.rejected", "reason", "queue_full", BookingIntake.Stats::rejectedQueueFull);
+        counter(registry, "booking.intake.rejected", "reason", "shutting_down", BookingIntake.Stats::rejectedShuttingDown);
+        counter(registry, "booking.intake.processed", "outcome", "confirmed", BookingIntake.Stats::confirmed);
+        counter(registry, "booking.intake.processed", "outcome", "failed", BookingIntake.Stats::failed);
+        counter(registry, "booking.intake.retried", null, null, BookingIntake.Stats::retried);
+    }
+
+    private void counter(MeterRegistry registry, String name, String tag, String value,
+                         ToLongFunction<BookingIntake.Stats> count) {
+        FunctionCounter.Builder<BookingIntake> builder =
+                FunctionCounter.builder(name, intake, i -> count.applyAsLong(i.stats()));
+        if (tag != null) {
+            builder.tag(tag, value);
+        }
+        builder.register(registry);
+    }
+}
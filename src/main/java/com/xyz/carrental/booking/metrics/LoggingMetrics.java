@@ -0,0 +1,56 @@
+package com.xyz.carrental.booking.metrics;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.xyz.carrental.booking.logging.LogSamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the state of the logging pipeline configured in {@code logback-spring.xml}:
+ * {@code booking.logging.sampled.out} and, per async appender, {@code booking.logging.async.queue.size}
+ * and {@code booking.logging.async.queue.remaining}.
+ * <p>
+ * Does nothing when Logback is not the logging backend, or runs without {@code logback-spring.xml}.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        context.getTurboFilterList().stream()
+                .filter(LogSamplingTurboFilter.class::isInstance)
+                .map(LogSamplingTurboFilter.class::cast)
+                .findFirst()
+                .ifPresent(filter -> FunctionCounter.builder("booking.logging.sampled.out", filter,
+                                LogSamplingTurboFilter::getSampledOut)
+                        .description("INFO and lower log events dropped by per-logger sampling")
+                        .register(registry));
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof AsyncAppender async) {
+                Gauge.builder("booking.logging.async.queue.size", async, AsyncAppender::getNumberOfElementsInQueue)
+                        .description("Log events waiting to be written")
+                        .tag("appender", async.getName())
+                        .register(registry);
+                Gauge.builder("booking.logging.async.queue.remaining", async, AsyncAppender::getRemainingCapacity)
+                        .description("Free slots in the log queue; INFO and lower events are dropped near zero")
+                        .tag("appender", async.getName())
+                        .register(registry);
+            }
+        }
+    }
+}
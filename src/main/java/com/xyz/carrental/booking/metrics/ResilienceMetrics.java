@@ -0,0 +1,98 @@
+package com.xyz.carrental.booking.metrics;
+
+import com.xyz.carrental.booking.resilience.Hedger;
+import com.xyz.carrental.booking.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the circuit breaker, bulkhead and hedging counters of each upstream API as {@code booking.upstream.*} meters,
+ * tagged by {@code upstream}.
+ * <p>
+ * {@code booking.upstream.circuit.state} is 0 when closed, 1 when open and 2 when half-open.
+ */
+@Component
+public class ResilienceMetrics implements MeterBinder {
+    private final UpstreamGuard drivingLicenseGuard;
+    private final UpstreamGuard pricingGuard;
+
+    public ResilienceMetrics(@Qualifier("drivingLicenseGuard") UpstreamGuard drivingLicenseGuard,
+                             @Qualifier("pricingGuard") UpstreamGuard pricingGuard) {
+        this.drivingLicenseGuard = drivingLicenseGuard;
+        this.pricingGuard = pricingGuard;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "driving_license", drivingLicenseGuard);
+        bind(registry, "pricing", pricingGuard);
+    }
+
+    private static void bind(MeterRegistry registry, String upstream, UpstreamGuard guard) {
+        Gauge.builder("booking.upstream.circuit.state", guard, g -> g.circuitBreaker().state().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .tag("upstream", upstream)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("booking.upstream.circuit.failure.rate", guard, g -> g.circuitBreaker().failureRate())
+                .description("Failure percentage over the breaker's sliding window")
+                .tag("upstream", upstream)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("booking.upstream.circuit.slow.call.rate", guard, g -> g.circuitBreaker().slowCallRate())
+                .description("Slow-call percentage over the breaker's sliding window")
+                .tag("upstream", upstream)
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("booking.upstream.rejected", guard, g -> g.circuitBreaker().notPermittedCalls())
+                .description("Calls rejected without reaching the upstream")
+                .tags("upstream", upstream, "reason", "circuit_open")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("booking.upstream.rejected", guard, g -> g.bulkhead().rejectedCalls())
+                .description("Calls rejected without reaching the upstream")
+                .tags("upstream", upstream, "reason", "bulkhead_full")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("booking.upstream.bulkhead.in.flight", guard, g -> g.bulkhead().inFlight())
+                .description("Calls in flight to the upstream")
+                .tag("upstream", upstream)
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("booking.upstream.hedge.requests", guard, g -> g.hedger().hedges())
+                .description("Hedge requests sent")
+                .tag("upstream", upstream)
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("booking.upstream.hedge.wins", guard, g -> g.hedger().primaryWins())
+                .description("Hedged calls by the request that answered first")
+                .tags("upstream", upstream, "winner", "primary")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("booking.upstream.hedge.wins", guard, g -> g.hedger().hedgeWins())
+                .description("Hedged calls by the request that answered first")
+                .tags("upstream", upstream, "winner", "hedge")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("booking.upstream.hedge.budget.exhausted", guard, g -> g.hedger().budgetExhausted())
+                .description("Hedges not sent because the hedge rate cap was reached")
+                .tag("upstream", upstream)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("booking.upstream.hedge.delay", guard, g -> hedgeDelaySeconds(g.hedger()))
+                .description("Current hedge delay; NaN while hedging is off or warming up")
+                .tag("upstream", upstream)
+                .baseUnit("seconds")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private static double hedgeDelaySeconds(Hedger hedger) {
+        long nanos = hedger.hedgeDelayNanos();
+        return nanos < 0 ? Double.NaN : nanos / 1e9;
+    }
+}
@@ -0,0 +1,28 @@
+package com.xyz.carrental.booking.pricing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.LocalDate;
+
+/**
+ * Compiles the pricing rules under {@code booking.pricing} into the {@link PricingEngine}; defaults and examples are
+ * listed in {@code application.yml}.
+ */
+@Slf4j
+@Configuration
+public class PricingConfig {
+
+    @Bean
+    public PricingEngine pricingEngine(Environment environment) {
+        PricingRules rules = Binder.get(environment)
+                .bind("booking.pricing", PricingRules.class)
+                .orElseGet(PricingRules::none);
+        log.info("Pricing rules: weekendSurcharge={}%, longRentalDiscounts={}, seasons={}, horizonDays={}",
+                rules.weekendSurchargePercent(), rules.longRentalDiscounts(), rules.seasons().size(), rules.horizonDays());
+        return new PricingEngine(rules, LocalDate.now());
+    }
+}
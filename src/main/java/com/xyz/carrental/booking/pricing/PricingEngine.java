@@ -0,0 +1,205 @@
+package com.xyz.carrental.booking.pricing;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Evaluates {@link PricingRules} in {@code long} arithmetic.
+ * <p>
+ * The rules are compiled once into one array per segment holding each day's rate factor in basis points of the API
+ * rate (10000 = the rate as is), indexed by day from {@code firstDay}. Pricing a booking sums the factors of its days,
+ * applies the long-rental discount and rounds half-up to cents once, at the end:
+ * <pre>
+ * cents = rate * sum(day factors) * (10000 - discount) / 10000^2, in cents, rounded half-up
+ * </pre>
+ * Without rules every factor is 10000 and there is no discount, so the result is exactly
+ * {@code rate * days} rounded half-up to 2 decimals.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class PricingEngine {
+
+    /** 100% in basis points. */
+    public static final int BASIS = 10_000;
+
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L};
+
+    private final long firstEpochDay;
+    private final int[][] dayFactors;
+    private final int[] discountByDays;
+    private final int weekendSurcharge;
+    private final CompiledSeason[] seasons;
+
+    public PricingEngine(PricingRules rules, LocalDate firstDay) {
+        this.firstEpochDay = firstDay.toEpochDay();
+        this.weekendSurcharge = basisPoints(rules.weekendSurchargePercent());
+        this.seasons = rules.seasons().stream().map(CompiledSeason::of).toArray(CompiledSeason[]::new);
+        this.discountByDays = discountTable(rules.longRentalDiscounts());
+
+        CarSegment[] segments = CarSegment.values();
+        this.dayFactors = new int[segments.length][Math.max(rules.horizonDays(), 0)];
+        for (CarSegment segment : segments) {
+            int[] factors = dayFactors[segment.ordinal()];
+            for (int day = 0; day < factors.length; day++) {
+                factors[day] = factor(segment.ordinal(), firstEpochDay + day);
+            }
+        }
+    }
+
+    /**
+     * Calculates the total price in cents.
+     *
+     * @param segment      the booked segment
+     * @param rateUnscaled the API rate per day, as the unscaled value of a decimal
+     * @param rateScale    the scale of that decimal
+     * @param startDate    first rental day
+     * @param endDate      last rental day, not before {@code startDate}
+     * @return the total in cents, rounded half-up
+     * @throws ArithmeticException if the result overflows {@code long} arithmetic (only for rates with unusually
+     *                             high precision); {@link #totalOf} gives the same result in {@link BigDecimal}
+     */
+    public long totalCents(CarSegment segment, long rateUnscaled, int rateScale, LocalDate startDate, LocalDate endDate) {
+        long factorSum = factorSum(segment, startDate, endDate);
+        int discount = discount(startDate, endDate);
+
+        long numerator = Math.multiplyExact(Math.multiplyExact(rateUnscaled, factorSum), BASIS - discount);
+        long denominator = (long) BASIS * BASIS;
+        if (rateScale <= 2) {
+            numerator = Math.multiplyExact(numerator, powerOfTen(2 - rateScale));
+        } else {
+            denominator = Math.multiplyExact(denominator, powerOfTen(rateScale - 2));
+        }
+        return divideHalfUp(numerator, denominator);
+    }
+
+    /**
+     * Same as {@link #totalCents}, in {@link BigDecimal}: for rates that do not fit {@code long} arithmetic.
+     *
+     * @return the total with scale 2
+     */
+    public BigDecimal totalOf(CarSegment segment, BigDecimal ratePerDay, LocalDate startDate, LocalDate endDate) {
+        return ratePerDay
+                .multiply(BigDecimal.valueOf(factorSum(segment, startDate, endDate)))
+                .multiply(BigDecimal.valueOf(BASIS - discount(startDate, endDate)))
+                .movePointLeft(8)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns the sum of the day factors, in basis points, over the rental period.
+     */
+    long factorSum(CarSegment segment, LocalDate startDate, LocalDate endDate) {
+        int s = segment.ordinal();
+        int[] factors = dayFactors[s];
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+        long sum = 0;
+        for (long day = from; day <= to; day++) {
+            long index = day - firstEpochDay;
+            sum += index >= 0 && index < factors.length ? factors[(int) index] : factor(s, day);
+        }
+        return sum;
+    }
+
+    private int discount(LocalDate startDate, LocalDate endDate) {
+        long days = endDate.toEpochDay() - startDate.toEpochDay() + 1;
+        return discountByDays[(int) Math.min(days, discountByDays.length - 1)];
+    }
+
+    /**
+     * Evaluates the rules for one day: the last matching season's rate, plus the weekend surcharge.
+     */
+    private int factor(int segment, long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        int factor = BASIS;
+        for (CompiledSeason season : seasons) {
+            if (season.matches(segment, date)) {
+                factor = season.factor();
+            }
+        }
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        if (weekendSurcharge != 0 && (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY)) {
+            factor = (int) divideHalfUp((long) factor * (BASIS + weekendSurcharge), BASIS);
+        }
+        return factor;
+    }
+
+    /**
+     * Builds the discount lookup indexed by rental days; the last entry applies to all longer rentals.
+     */
+    private static int[] discountTable(Map<Integer, BigDecimal> discounts) {
+        TreeMap<Integer, Integer> tiers = new TreeMap<>();
+        discounts.forEach((minDays, percent) -> {
+            int discount = basisPoints(percent);
+            if (minDays < 1 || discount < 0 || discount > BASIS) {
+                throw new IllegalArgumentException("Invalid long-rental discount " + minDays + ": " + percent);
+            }
+            tiers.put(minDays, discount);
+        });
+        int[] table = new int[(tiers.isEmpty() ? 0 : tiers.lastKey()) + 1];
+        for (int days = 1; days < table.length; days++) {
+            Map.Entry<Integer, Integer> tier = tiers.floorEntry(days);
+            table[days] = tier == null ? 0 : tier.getValue();
+        }
+        return table;
+    }
+
+    private static int basisPoints(BigDecimal percent) {
+        return percent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    private static long powerOfTen(int exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Rate scale out of range");
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * Divides and rounds half away from zero, like {@link RoundingMode#HALF_UP}; {@code denominator} is positive.
+     */
+    private static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = Math.abs(numerator % denominator);
+        if (remainder >= denominator - remainder) {
+            quotient += Long.signum(numerator);
+        }
+        return quotient;
+    }
+
+    private record CompiledSeason(boolean[] segments, MonthDay from, MonthDay to, int factor) {
+
+        static CompiledSeason of(PricingRules.Season season) {
+            boolean[] segments = new boolean[CarSegment.values().length];
+            for (CarSegment segment : CarSegment.values()) {
+                segments[segment.ordinal()] = season.segments().isEmpty() || season.segments().contains(segment);
+            }
+            int factor = basisPoints(season.percent());
+            if (factor < 0) {
+                throw new IllegalArgumentException("Invalid percent for season " + season.name() + ": " + season.percent());
+            }
+            return new CompiledSeason(segments, MonthDay.parse(season.from(), MONTH_DAY),
+                    MonthDay.parse(season.to(), MONTH_DAY), factor);
+        }
+
+        boolean matches(int segment, LocalDate date) {
+            if (!segments[segment]) {
+                return false;
+            }
+            MonthDay day = MonthDay.from(date);
+            return from.isAfter(to)
+                    ? !day.isBefore(from) || !day.isAfter(to)
+                    : !day.isBefore(from) && !day.isAfter(to);
+        }
+    }
+}
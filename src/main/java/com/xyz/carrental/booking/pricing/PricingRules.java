@@ -0,0 +1,54 @@
+package com.xyz.carrental.booking.pricing;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pricing rules applied on top of the per-day rate from the Car Pricing API, as configured under
+ * {@code booking.pricing}.
+ *
+ * @param horizonDays             days from startup that {@link PricingEngine} precomputes; later or earlier days are
+ *                                evaluated rule by rule, with the same result
+ * @param weekendSurchargePercent surcharge on Saturdays and Sundays, in percent of the day's rate
+ * @param longRentalDiscounts     minimum rental days to discount on the total, in percent; the largest applicable
+ *                                tier wins
+ * @param seasons                 seasonal rates; the last matching season wins
+ */
+public record PricingRules(int horizonDays,
+                           BigDecimal weekendSurchargePercent,
+                           Map<Integer, BigDecimal> longRentalDiscounts,
+                           List<Season> seasons) {
+
+    public PricingRules {
+        weekendSurchargePercent = weekendSurchargePercent == null ? BigDecimal.ZERO : weekendSurchargePercent;
+        longRentalDiscounts = longRentalDiscounts == null ? Map.of() : Map.copyOf(longRentalDiscounts);
+        seasons = seasons == null ? List.of() : List.copyOf(seasons);
+    }
+
+    /**
+     * No rules: the total is the per-day rate times the number of days.
+     */
+    public static PricingRules none() {
+        return new PricingRules(0, BigDecimal.ZERO, Map.of(), List.of());
+    }
+
+    /**
+     * A recurring yearly period with its own rate.
+     *
+     * @param name     label used in logs
+     * @param segments segments the season applies to; empty means all
+     * @param from     first day, {@code MM-dd}
+     * @param to       last day, {@code MM-dd}; may be before {@code from} for periods spanning the new year
+     * @param percent  the day's rate in percent of the API rate, e.g. 120
+     */
+    public record Season(String name, Set<CarSegment> segments, String from, String to, BigDecimal percent) {
+
+        public Season {
+            segments = segments == null ? Set.of() : Set.copyOf(segments);
+        }
+    }
+}
@@ -1,14 +1,44 @@
 package com.xyz.carrental.booking.repository;
 
+import com.xyz.carrental.booking.availability.BookedPeriod;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
 import com.xyz.carrental.booking.entity.Booking;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repository for performing CRUD operations on {@link Booking} entities.
  * <p>
- * Extends {@link JpaRepository} to provide standard database operations.
+ * Extends {@link JpaRepository} to provide standard database operations, and {@link BookingSearchRepository}
+ * for keyset-paginated search.
  */
-public interface BookingRepository extends JpaRepository<Booking, UUID> {
+public interface BookingRepository extends JpaRepository<Booking, UUID>, BookingSearchRepository {
+
+    /**
+     * Returns the details of a booking, selected straight into {@link BookingDetailsResponse}.
+     * <p>
+     * No {@link Booking} entity is built or registered in a persistence context, and the query does not start
+     * a transaction of its own: it joins one if present and otherwise runs on a plain read-only connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Query("select new com.xyz.carrental.booking.dto.BookingDetailsResponse(b.id, b.drivingLicenseNumber, b.customerName, "
+            + "b.age, b.startDate, b.endDate, b.carSegment, b.rentalPrice) from Booking b where b.id = :id")
+    Optional<BookingDetailsResponse> findDetailsById(@Param("id") UUID id);
+
+    /**
+     * Returns the segment and rental days of every booking that ends on or after the given date.
+     * <p>
+     * Projects straight into {@link BookedPeriod}, so no entities are loaded into the persistence context.
+     */
+    @Query("select new com.xyz.carrental.booking.availability.BookedPeriod(b.carSegment, b.startDate, b.endDate) "
+            + "from Booking b where b.endDate >= :from")
+    List<BookedPeriod> findBookedPeriodsEndingOnOrAfter(@Param("from") LocalDate from);
 }
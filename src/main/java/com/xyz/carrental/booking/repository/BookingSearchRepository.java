@@ -0,0 +1,41 @@
+package com.xyz.carrental.booking.repository;
+
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Search queries on bookings that project directly into {@link BookingDetailsResponse}.
+ */
+public interface BookingSearchRepository {
+
+    /**
+     * Returns up to {@code limit} bookings matching the criteria, ordered by start date and then booking ID.
+     * <p>
+     * Pagination is keyset-based: pass the start date and ID of the last booking of the previous page
+     * (or {@code null} for the first page) and only bookings sorting after it are returned.
+     *
+     * @param criteria       the filters to apply
+     * @param afterStartDate start date of the last booking already returned, or {@code null}
+     * @param afterId        ID of the last booking already returned, or {@code null}
+     * @param limit          maximum number of bookings to return
+     * @return the matching bookings
+     */
+    List<BookingDetailsResponse> search(BookingSearchCriteria criteria, LocalDate afterStartDate, UUID afterId, int limit);
+
+    /**
+     * Streams all bookings matching the criteria, ordered by start date and then booking ID.
+     * <p>
+     * Rows are read through a forward-only, read-only cursor, {@code fetchSize} rows at a time. The stream must be
+     * consumed and closed inside a transaction.
+     *
+     * @param criteria  the filters to apply
+     * @param fetchSize number of rows the JDBC driver fetches per round trip
+     * @return a lazily populated stream of bookings
+     */
+    Stream<BookingDetailsResponse> stream(BookingSearchCriteria criteria, int fetchSize);
+}
@@ -0,0 +1,107 @@
+package com.xyz.carrental.booking.repository;
+
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+import com.xyz.carrental.booking.entity.Booking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Criteria-based implementation of {@link BookingSearchRepository}.
+ * <p>
+ * Rows are selected straight into {@link BookingDetailsResponse} with a constructor expression, so no entities
+ * are loaded into the persistence context. The keyset condition {@code (start_date, id) > (:startDate, :id)},
+ * written as {@code start_date >= :startDate AND (start_date > :startDate OR (start_date = :startDate AND id > :id))},
+ * together with {@code ORDER BY start_date, id} lets every page start with an index seek on the
+ * {@code (…, start_date, id)} indexes on {@link Booking}, without an OFFSET scan.
+ */
+@RequiredArgsConstructor
+public class BookingSearchRepositoryImpl implements BookingSearchRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingDetailsResponse> search(BookingSearchCriteria criteria, LocalDate afterStartDate, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingDetailsResponse> query = cb.createQuery(BookingDetailsResponse.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Path<LocalDate> startDate = booking.get("startDate");
+        Path<UUID> id = booking.get("id");
+
+        List<Predicate> predicates = filters(cb, booking, criteria);
+        if (afterStartDate != null && afterId != null) {
+            // Redundant with the OR below, but gives the planner a range on start_date to seek the index to;
+            // the OR alone is only applied as a filter on rows read from the start of the index
+            predicates.add(cb.greaterThanOrEqualTo(startDate, afterStartDate));
+            predicates.add(cb.or(
+                    cb.greaterThan(startDate, afterStartDate),
+                    cb.and(cb.equal(startDate, afterStartDate), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(detailsOf(cb, booking))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(startDate), cb.asc(id));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<BookingDetailsResponse> stream(BookingSearchCriteria criteria, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingDetailsResponse> query = cb.createQuery(BookingDetailsResponse.class);
+        Root<Booking> booking = query.from(Booking.class);
+
+        query.select(detailsOf(cb, booking))
+                .where(filters(cb, booking, criteria).toArray(Predicate[]::new))
+                .orderBy(cb.asc(booking.get("startDate")), cb.asc(booking.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Builds one predicate per non-null field of the criteria.
+     */
+    static List<Predicate> filters(CriteriaBuilder cb, Root<Booking> booking, BookingSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>(5);
+        if (criteria.drivingLicenseNumber() != null) {
+            predicates.add(cb.equal(booking.get("drivingLicenseNumber"), criteria.drivingLicenseNumber()));
+        }
+        if (criteria.carSegment() != null) {
+            predicates.add(cb.equal(booking.get("carSegment"), criteria.carSegment()));
+        }
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(booking.get("startDate"), criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThanOrEqualTo(booking.get("startDate"), criteria.to()));
+        }
+        return predicates;
+    }
+
+    static CompoundSelection<BookingDetailsResponse> detailsOf(CriteriaBuilder cb, Root<Booking> booking) {
+        return cb.construct(BookingDetailsResponse.class,
+                booking.get("id"),
+                booking.get("drivingLicenseNumber"),
+                booking.get("customerName"),
+                booking.get("age"),
+                booking.get("startDate"),
+                booking.get("endDate"),
+                booking.get("carSegment"),
+                booking.get("rentalPrice"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.xyz.carrental.booking.repository;
+
+/**
+ * Derives the R2DBC URL of the reactive path from {@code spring.datasource.url}, so that both paths always use the
+ * same database.
+ * <p>
+ * Rules:
+ * - {@code jdbc:h2:mem:name;OPTIONS} becomes {@code r2dbc:pool:h2:mem:///name?options=OPTIONS}
+ * - {@code jdbc:driver://host/db?params} becomes {@code r2dbc:pool:driver://host/db?params}
+ * - Other JDBC URLs cannot be derived; {@code booking.reactive.r2dbc-url} must then be set
+ * - An explicit R2DBC URL must name the same database as the derived one
+ */
+public final class R2dbcUrls {
+
+    private static final String H2_MEM = "jdbc:h2:mem:";
+
+    private R2dbcUrls() {
+    }
+
+    /**
+     * Returns the R2DBC URL for the reactive path.
+     *
+     * @param jdbcUrl     {@code spring.datasource.url}
+     * @param explicitUrl {@code booking.reactive.r2dbc-url}; blank to derive it from {@code jdbcUrl}
+     * @param poolSize    maximum number of pooled R2DBC connections, for derived URLs
+     * @return the R2DBC URL
+     * @throws IllegalStateException if the URL cannot be derived, or the explicit URL names another database
+     */
+    public static String resolve(String jdbcUrl, String explicitUrl, int poolSize) {
+        String derived = derive(jdbcUrl, poolSize);
+        if (explicitUrl == null || explicitUrl.isBlank()) {
+            if (derived == null) {
+                throw new IllegalStateException("Cannot derive an R2DBC URL from spring.datasource.url=" + jdbcUrl
+                        + "; set booking.reactive.r2dbc-url to the same database");
+            }
+            return derived;
+        }
+        if (derived != null && !database(derived).equals(database(explicitUrl))) {
+            throw new IllegalStateException("booking.reactive.r2dbc-url=" + explicitUrl
+                    + " does not name the database of spring.datasource.url=" + jdbcUrl
+                    + "; reactive bookings would be invisible to the other endpoints");
+        }
+        return explicitUrl;
+    }
+
+    /**
+     * Returns the R2DBC equivalent of a JDBC URL, or {@code null} if it cannot be derived.
+     */
+    static String derive(String jdbcUrl, int poolSize) {
+        if (jdbcUrl == null) {
+            return null;
+        }
+        if (jdbcUrl.startsWith(H2_MEM)) {
+            String rest = jdbcUrl.substring(H2_MEM.length());
+            int semicolon = rest.indexOf(';');
+            String name = semicolon < 0 ? rest : rest.substring(0, semicolon);
+            String options = semicolon < 0 ? "" : "options=" + rest.substring(semicolon + 1) + "&";
+            return "r2dbc:pool:h2:mem:///" + name + "?" + options + "maxSize=" + poolSize;
+        }
+        if (jdbcUrl.startsWith("jdbc:") && jdbcUrl.indexOf("://") > 0 && !jdbcUrl.startsWith("jdbc:h2:")) {
+            String rest = jdbcUrl.substring("jdbc:".length());
+            return "r2dbc:pool:" + rest + (rest.contains("?") ? "&" : "?") + "maxSize=" + poolSize;
+        }
+        return null;
+    }
+
+    /**
+     * Strips the scheme, the pool prefix and the query, leaving the driver and the database location.
+     */
+    private static String database(String r2dbcUrl) {
+        String url = r2dbcUrl.startsWith("r2dbc:") ? r2dbcUrl.substring("r2dbc:".length()) : r2dbcUrl;
+        if (url.startsWith("pool:")) {
+            url = url.substring("pool:".length());
+        }
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+}
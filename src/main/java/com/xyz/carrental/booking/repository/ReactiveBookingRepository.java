@@ -0,0 +1,116 @@
+package com.xyz.carrental.booking.repository;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.entity.Booking;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Non-blocking access to the {@code bookings} table through R2DBC.
+ * <p>
+ * Used by the reactive booking endpoint; the schema is still owned by JPA (see {@link Booking}).
+ * The connection factory is deliberately not exposed as a bean: Spring Boot would otherwise
+ * back off from configuring the JDBC {@code DataSource} that JPA relies on. Its URL is derived from
+ * {@code spring.datasource.url} (see {@link R2dbcUrls}), so both paths read and write the same database.
+ */
+@Repository
+public class ReactiveBookingRepository implements DisposableBean {
+
+    private static final String INSERT = """
+            INSERT INTO bookings (id, driving_license_number, customer_name, age, start_date, end_date,
+                                  car_segment, rental_price, created_at)
+            VALUES (:id, :drivingLicenseNumber, :customerName, :age, :startDate, :endDate,
+                    :carSegment, :rentalPrice, :createdAt)
+            """;
+
+    private static final String SELECT_BY_ID = """
+            SELECT id, driving_license_number, customer_name, age, start_date, end_date,
+                   car_segment, rental_price, created_at
+            FROM bookings WHERE id = :id
+            """;
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveBookingRepository(@Value("${spring.datasource.url}") String jdbcUrl,
+                                     @Value("${booking.reactive.r2dbc-url:}") String r2dbcUrl,
+                                     @Value("${booking.reactive.pool-size:20}") int poolSize,
+                                     @Value("${spring.datasource.username:}") String username,
+                                     @Value("${spring.datasource.password:}") String password) {
+        String url = R2dbcUrls.resolve(jdbcUrl, r2dbcUrl, poolSize);
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Inserts a new booking.
+     *
+     * @param booking the booking to insert, with its application-assigned ID
+     * @return a {@link Mono} emitting the ID of the inserted booking
+     */
+    public Mono<UUID> insert(Booking booking) {
+        return databaseClient.sql(INSERT)
+                .bind("id", booking.getId())
+                .bind("drivingLicenseNumber", booking.getDrivingLicenseNumber())
+                .bind("customerName", booking.getCustomerName())
+                .bind("age", booking.getAge())
+                .bind("startDate", booking.getStartDate())
+                .bind("endDate", booking.getEndDate())
+                .bind("carSegment", booking.getCarSegment().name())
+                .bind("rentalPrice", booking.getRentalPrice())
+                .bind("createdAt", OffsetDateTime.now(ZoneOffset.UTC))
+                .then()
+                .thenReturn(booking.getId());
+    }
+
+    /**
+     * Finds a booking by its ID.
+     *
+     * @param id the booking ID
+     * @return a {@link Mono} emitting the booking, or empty if it does not exist
+     */
+    public Mono<Booking> findById(UUID id) {
+        return databaseClient.sql(SELECT_BY_ID)
+                .bind("id", id)
+                .map(ReactiveBookingRepository::toBooking)
+                .one();
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof io.r2dbc.spi.Closeable closeable) {
+            Mono.from(closeable.close()).block();
+        }
+    }
+
+    private static Booking toBooking(Readable row) {
+        OffsetDateTime createdAt = row.get("created_at", OffsetDateTime.class);
+        return Booking.builder()
+                .id(row.get("id", UUID.class))
+                .drivingLicenseNumber(row.get("driving_license_number", String.class))
+                .customerName(row.get("customer_name", String.class))
+                .age(row.get("age", Integer.class))
+                .startDate(row.get("start_date", LocalDate.class))
+                .endDate(row.get("end_date", LocalDate.class))
+                .carSegment(CarSegment.valueOf(row.get("car_segment", String.class)))
+                .rentalPrice(row.get("rental_price", BigDecimal.class))
+                .createdAt(createdAt == null ? null : createdAt.toInstant())
+                .build();
+    }
+}
@@ -0,0 +1,259 @@
+package com.xyz.carrental.booking.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker over a sliding window of the most recent calls to one upstream.
+ * <p>
+ * Behaviour:
+ * - CLOSED: calls are permitted; once the window holds {@code minimumCalls} outcomes and the failure rate or the
+ *   slow-call rate reaches its threshold, the breaker opens
+ * - OPEN: calls are rejected for {@code waitInOpenState}, then the breaker turns half-open
+ * - HALF_OPEN: only {@code permittedCallsInHalfOpenState} probe calls are permitted; once they all completed,
+ *   the breaker closes if both rates are below their thresholds and opens again otherwise
+ * <p>
+ * The state, its window and its half-open permits form one immutable phase, replaced with a single compare-and-set;
+ * outcomes are recorded with atomic operations only, so recording an outcome never blocks.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * Breaker state; the ordinal is published as the {@code booking.upstream.circuit.state} gauge.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * @param windowSize                    number of most recent calls the rates are computed over
+     * @param minimumCalls                  calls needed in the window before the breaker can open
+     * @param failureRateThreshold          failure percentage that opens the breaker
+     * @param slowCallRateThreshold         slow-call percentage that opens the breaker
+     * @param slowCallDuration              calls taking at least this long count as slow
+     * @param waitInOpenState               how long the breaker stays open before probing
+     * @param permittedCallsInHalfOpenState probe calls permitted while half-open
+     */
+    public record Settings(int windowSize, int minimumCalls, float failureRateThreshold, float slowCallRateThreshold,
+                           Duration slowCallDuration, Duration waitInOpenState, int permittedCallsInHalfOpenState) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final long slowCallNanos;
+    private final long waitInOpenNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<Phase> phase;
+    private final LongAdder notPermitted = new LongAdder();
+
+    public CircuitBreaker(String name, Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.slowCallNanos = settings.slowCallDuration().toNanos();
+        this.waitInOpenNanos = settings.waitInOpenState().toNanos();
+        this.nanoClock = nanoClock;
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0, new Window(settings.windowSize())));
+    }
+
+    /**
+     * Returns whether a call may go ahead. Every permitted call must be followed by {@link #onResult} or,
+     * if it never completes (e.g. it is cancelled), by {@link #releasePermission()}.
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - current.openedAt < waitInOpenNanos) {
+                        notPermitted.increment();
+                        return false;
+                    }
+                    transition(current, State.HALF_OPEN);
+                    break;
+                case HALF_OPEN:
+                    if (!current.tryTakePermit(settings.permittedCallsInHalfOpenState())) {
+                        notPermitted.increment();
+                        return false;
+                    }
+                    if (phase.get() == current) {
+                        return true;
+                    }
+                    // The half-open phase ended while the permit was taken: decide again in the new phase
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Gives back a permission whose call did not complete, so that a half-open breaker can still probe.
+     */
+    public void releasePermission() {
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            current.releasePermit();
+        }
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param durationNanos how long the call took
+     * @param failed        whether the call failed
+     */
+    public void onResult(long durationNanos, boolean failed) {
+        Phase current = phase.get();
+        if (current.state == State.OPEN) {
+            // Call started before the breaker opened
+            return;
+        }
+        Window w = current.window;
+        w.record(failed, durationNanos >= slowCallNanos);
+        if (current.state == State.CLOSED) {
+            if (w.calls() >= settings.minimumCalls() && exceedsThresholds(w)) {
+                transition(current, State.OPEN);
+            }
+        } else if (w.calls() >= settings.permittedCallsInHalfOpenState()) {
+            transition(current, exceedsThresholds(w) ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Failure percentage over the current window.
+     */
+    public float failureRate() {
+        return phase.get().window.failureRate();
+    }
+
+    /**
+     * Slow-call percentage over the current window.
+     */
+    public float slowCallRate() {
+        return phase.get().window.slowCallRate();
+    }
+
+    /**
+     * Calls rejected while the breaker was open or half-open.
+     */
+    public long notPermittedCalls() {
+        return notPermitted.sum();
+    }
+
+    private boolean exceedsThresholds(Window w) {
+        return w.failureRate() >= settings.failureRateThreshold() || w.slowCallRate() >= settings.slowCallRateThreshold();
+    }
+
+    /**
+     * Replaces {@code from} with a fully built phase in {@code to}, unless another thread already moved on from it.
+     */
+    private void transition(Phase from, State to) {
+        Phase next = new Phase(to, to == State.OPEN ? nanoClock.getAsLong() : from.openedAt,
+                new Window(to == State.HALF_OPEN ? settings.permittedCallsInHalfOpenState() : settings.windowSize()));
+        if (phase.compareAndSet(from, next)) {
+            if (to == State.CLOSED) {
+                log.info("Circuit breaker {} closed", name);
+            } else {
+                log.warn("Circuit breaker {} {}: failure rate {}%, slow-call rate {}%",
+                        name, to == State.OPEN ? "opened" : "half-open", from.window.failureRate(), from.window.slowCallRate());
+            }
+        }
+    }
+
+    /**
+     * One period in a state, with its own window and half-open permits. Published whole, with a single CAS, so a
+     * caller never sees a state together with the opening time, window or permits of another period.
+     */
+    private static final class Phase {
+        final State state;
+        final long openedAt;
+        final Window window;
+        final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+        Phase(State state, long openedAt, Window window) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.window = window;
+        }
+
+        boolean tryTakePermit(int limit) {
+            int permits;
+            do {
+                permits = halfOpenPermits.get();
+                if (permits >= limit) {
+                    return false;
+                }
+            } while (!halfOpenPermits.compareAndSet(permits, permits + 1));
+            return true;
+        }
+
+        void releasePermit() {
+            halfOpenPermits.updateAndGet(permits -> Math.max(0, permits - 1));
+        }
+    }
+
+    /**
+     * Ring of the last {@code size} call outcomes, with running totals kept in step by atomic adds.
+     */
+    static final class Window {
+        private static final int RECORDED = 1;
+        private static final int FAILED = 2;
+        private static final int SLOW = 4;
+
+        private final int size;
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        Window(int size) {
+            this.size = size;
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        void record(boolean failed, boolean slow) {
+            int outcome = RECORDED | (failed ? FAILED : 0) | (slow ? SLOW : 0);
+            int previous = outcomes.getAndSet((int) (cursor.getAndIncrement() % size), outcome);
+            if (previous == 0) {
+                calls.incrementAndGet();
+            }
+            failures.addAndGet(bit(outcome, FAILED) - bit(previous, FAILED));
+            slowCalls.addAndGet(bit(outcome, SLOW) - bit(previous, SLOW));
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        float failureRate() {
+            return percentage(failures.get());
+        }
+
+        float slowCallRate() {
+            return percentage(slowCalls.get());
+        }
+
+        private float percentage(int count) {
+            int total = calls.get();
+            return total == 0 ? 0f : count * 100f / total;
+        }
+
+        private static int bit(int outcome, int flag) {
+            return (outcome & flag) != 0 ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.xyz.carrental.booking.resilience;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sends a second, identical request when an upstream call is slower than usual, and keeps the first answer.
+ * <p>
+ * Behaviour:
+ * - The hedge delay is the {@code percentile} of the recent successful call latencies (at least {@code minDelay}),
+ *   over the last one to two {@code window}s; there is no hedging until {@code minSamples} latencies are recorded
+ * - Each call earns {@code maxHedgeRatio} of a hedge token and each hedge spends a whole one, so at most that
+ *   fraction of calls is hedged (plus a burst of {@value #MAX_TOKENS} hedges)
+ * - The first value wins and the other request is cancelled; a failed hedge is ignored, a failed primary call fails
+ *   the call
+ */
+public class Hedger {
+
+    /**
+     * @param enabled       whether calls are hedged
+     * @param percentile    latency percentile (0-100] after which a hedge is sent
+     * @param minDelay      lower bound of the hedge delay
+     * @param maxHedgeRatio maximum fraction of calls that are hedged
+     * @param minSamples    latencies recorded before hedging starts
+     * @param window        how long latencies are kept
+     */
+    public record Settings(boolean enabled, double percentile, Duration minDelay, double maxHedgeRatio,
+                           int minSamples, Duration window) {
+
+        public static Settings disabled() {
+            return new Settings(false, 95, Duration.ZERO, 0, 0, Duration.ofMinutes(1));
+        }
+    }
+
+    private static final long MAX_TOKENS = 10;
+    private static final long TOKEN = 1_000;
+    private static final long DELAY_REFRESH_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+    private final long windowNanos;
+    private final long earnedPerCall;
+
+    private final LatencyHistogram[] histograms = {new LatencyHistogram(), new LatencyHistogram()};
+    private volatile int current;
+    private final AtomicLong nextRotation;
+    // Recomputed at most once a second once hedging has started
+    private volatile long delayNanos = -1;
+    private volatile long delayComputedAt;
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder primaryWins = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    public Hedger(Settings settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.windowNanos = settings.window().toNanos();
+        this.earnedPerCall = Math.round(settings.maxHedgeRatio() * TOKEN);
+        long now = nanoClock.getAsLong();
+        this.nextRotation = new AtomicLong(now + windowNanos);
+    }
+
+    /**
+     * Returns {@code attempt}, hedged if enabled. {@code attempt} must be lazy: each subscription sends one request.
+     */
+    public <T> Mono<T> hedge(Mono<T> attempt) {
+        if (!settings.enabled()) {
+            return attempt;
+        }
+        return Mono.defer(() -> {
+            tokens.accumulateAndGet(earnedPerCall, (available, earned) -> Math.min(available + earned, MAX_TOKENS * TOKEN));
+            long delay = hedgeDelayNanos();
+            if (delay < 0) {
+                return timed(attempt);
+            }
+            AtomicBoolean hedged = new AtomicBoolean();
+            Mono<Attempt<T>> primary = timed(attempt).map(value -> new Attempt<>(value, false));
+            Mono<Attempt<T>> hedge = Mono.delay(Duration.ofNanos(delay))
+                    .flatMap(tick -> {
+                        if (!tryTakeToken()) {
+                            budgetExhausted.increment();
+                            return Mono.never();
+                        }
+                        hedged.set(true);
+                        hedges.increment();
+                        return timed(attempt).map(value -> new Attempt<>(value, true))
+                                // Let the primary call decide how the call fails
+                                .onErrorResume(ex -> Mono.never());
+                    });
+            return Mono.firstWithSignal(primary, hedge)
+                    .doOnNext(winner -> {
+                        if (hedged.get()) {
+                            (winner.hedge() ? hedgeWins : primaryWins).increment();
+                        }
+                    })
+                    .map(Attempt::value);
+        });
+    }
+
+    /**
+     * Current hedge delay in nanoseconds, or -1 while there are too few samples or hedging is disabled.
+     */
+    public long hedgeDelayNanos() {
+        if (!settings.enabled()) {
+            return -1;
+        }
+        long now = nanoClock.getAsLong();
+        rotateIfDue(now);
+        long cached = delayNanos;
+        if (cached >= 0 && now - delayComputedAt < DELAY_REFRESH_NANOS) {
+            return cached;
+        }
+        LatencyHistogram recent = histograms[current];
+        LatencyHistogram previous = histograms[1 - current];
+        long delay = -1;
+        if (recent.count() + previous.count() >= settings.minSamples()) {
+            long micros = LatencyHistogram.percentileMicros(settings.percentile(), recent, previous);
+            delay = Math.max(settings.minDelay().toNanos(), micros * 1_000);
+        }
+        delayNanos = delay;
+        delayComputedAt = now;
+        return delay;
+    }
+
+    /**
+     * Hedge requests sent.
+     */
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Hedged calls answered first by the original request.
+     */
+    public long primaryWins() {
+        return primaryWins.sum();
+    }
+
+    /**
+     * Hedged calls answered first by the hedge request.
+     */
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Hedges not sent because the hedge budget was spent.
+     */
+    public long budgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    private <T> Mono<T> timed(Mono<T> attempt) {
+        return Mono.defer(() -> {
+            long start = nanoClock.getAsLong();
+            return attempt.doOnNext(value -> histograms[current].record(nanoClock.getAsLong() - start));
+        });
+    }
+
+    private boolean tryTakeToken() {
+        long available;
+        do {
+            available = tokens.get();
+            if (available < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(available, available - TOKEN));
+        return true;
+    }
+
+    private void rotateIfDue(long now) {
+        long due = nextRotation.get();
+        if (now >= due && nextRotation.compareAndSet(due, now + windowNanos)) {
+            int oldest = 1 - current;
+            histograms[oldest].reset();
+            current = oldest;
+        }
+    }
+
+    private record Attempt<T>(T value, boolean hedge) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.xyz.carrental.booking.resilience;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * One {@link UpstreamGuard} per upstream API.
+ * <p>
+ * Both guards read the same settings under their API's prefix, e.g. {@code external.pricing.circuit-breaker.window-size},
+ * {@code external.pricing.bulkhead.max-concurrent-calls} and {@code external.pricing.hedging.enabled}; defaults are
+ * listed in {@code application.yml}.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public UpstreamGuard drivingLicenseGuard(Environment environment) {
+        return guard(environment, "external.driving-license", "Driving License API");
+    }
+
+    @Bean
+    public UpstreamGuard pricingGuard(Environment environment) {
+        return guard(environment, "external.pricing", "Car Pricing API");
+    }
+
+    private static UpstreamGuard guard(Environment environment, String prefix, String upstream) {
+        String breaker = prefix + ".circuit-breaker.";
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                environment.getProperty(breaker + "window-size", Integer.class, 50),
+                environment.getProperty(breaker + "minimum-calls", Integer.class, 20),
+                environment.getProperty(breaker + "failure-rate-threshold", Float.class, 50f),
+                environment.getProperty(breaker + "slow-call-rate-threshold", Float.class, 80f),
+                environment.getProperty(breaker + "slow-call-duration", Duration.class, Duration.ofSeconds(1)),
+                environment.getProperty(breaker + "wait-in-open-state", Duration.class, Duration.ofSeconds(10)),
+                environment.getProperty(breaker + "permitted-calls-in-half-open-state", Integer.class, 5));
+        int maxConcurrentCalls = environment.getProperty(prefix + ".bulkhead.max-concurrent-calls", Integer.class, 50);
+        String hedging = prefix + ".hedging.";
+        Hedger.Settings hedgingSettings = new Hedger.Settings(
+                environment.getProperty(hedging + "enabled", Boolean.class, false),
+                environment.getProperty(hedging + "percentile", Double.class, 95.0),
+                environment.getProperty(hedging + "min-delay", Duration.class, Duration.ofMillis(50)),
+                environment.getProperty(hedging + "max-hedge-ratio", Double.class, 0.05),
+                environment.getProperty(hedging + "min-samples", Integer.class, 200),
+                environment.getProperty(hedging + "window", Duration.class, Duration.ofMinutes(1)));
+        return new UpstreamGuard(upstream,
+                new CircuitBreaker(upstream, settings, System::nanoTime),
+                new Bulkhead(maxConcurrentCalls),
+                new Hedger(hedgingSettings, System::nanoTime),
+                System::nanoTime);
+    }
+}
@@ -0,0 +1,94 @@
+package com.xyz.carrental.booking.resilience;
+
+import com.xyz.carrental.booking.exception.UpstreamUnavailableException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker, bulkhead and hedging for the calls to one upstream API.
+ * <p>
+ * Rules:
+ * - Every request, including a hedge request (see {@link Hedger}), goes through the breaker and the bulkhead
+ * - A call is rejected with {@link UpstreamUnavailableException}, without reaching the upstream, while the breaker is
+ *   open or the bulkhead is full
+ * - 4xx responses are answers about the request, not upstream failures, and count as successful calls
+ * - Cancelled calls (e.g. the other lookup of a confirmation failed first) are not recorded
+ */
+public class UpstreamGuard {
+
+    private final String upstream;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Hedger hedger;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param upstream human-readable API name, used in error messages
+     */
+    public UpstreamGuard(String upstream, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Hedger hedger,
+                         LongSupplier nanoClock) {
+        this.upstream = upstream;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.hedger = hedger;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Wraps a lazy upstream call so that each request goes through the breaker and the bulkhead, and is hedged
+     * if enabled.
+     *
+     * @param call the raw upstream call, before its errors are mapped to booking exceptions
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return hedger.hedge(guarded(call));
+    }
+
+    private <T> Mono<T> guarded(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new UpstreamUnavailableException(upstream + " is unavailable: circuit breaker is open"));
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.releasePermission();
+                return Mono.error(new UpstreamUnavailableException(upstream + " is busy: too many concurrent calls"));
+            }
+            long start = nanoClock.getAsLong();
+            AtomicBoolean completed = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        completed.set(true);
+                        circuitBreaker.onResult(nanoClock.getAsLong() - start, false);
+                    })
+                    .doOnError(ex -> {
+                        completed.set(true);
+                        circuitBreaker.onResult(nanoClock.getAsLong() - start, isFailure(ex));
+                    })
+                    .doFinally(signal -> {
+                        if (!completed.get()) {
+                            circuitBreaker.releasePermission();
+                        }
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    public CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    public Hedger hedger() {
+        return hedger;
+    }
+
+    static boolean isFailure(Throwable ex) {
+        return !(ex instanceof WebClientResponseException wex && wex.getStatusCode().is4xxClientError());
+    }
+}
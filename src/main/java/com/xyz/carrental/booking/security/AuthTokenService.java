@@ -0,0 +1,134 @@
+package com.xyz.carrental.booking.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies HMAC-signed bearer tokens, so that clients pay for one BCrypt check per token rather than
+ * one per request.
+ * <p>
+ * A token is {@code base64url(username|authorities|expiry).base64url(HMAC-SHA256 of that payload)}.
+ * <p>
+ * Rules:
+ * - Tokens are signed with {@code booking.auth.token-secret} (Base64, at least 32 bytes); when it is not set a random
+ *   key is generated at startup, so tokens are only valid on the instance that issued them until it restarts
+ * - Tokens expire after {@code booking.auth.token-ttl}; roles are those the user had when the token was issued
+ * - Signatures are compared in constant time
+ */
+@Slf4j
+@Component
+public class AuthTokenService {
+
+    private static final String HMAC = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public AuthTokenService(@Value("${booking.auth.token-secret:}") String secret,
+                            @Value("${booking.auth.token-ttl:15m}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    public AuthTokenService(String secret, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            log.info("No booking.auth.token-secret set; bearer tokens are signed with a random per-instance key");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = Base64.getDecoder().decode(secret);
+            if (key.length < 32) {
+                throw new IllegalStateException("booking.auth.token-secret must be at least 32 bytes");
+            }
+        }
+        try {
+            this.prototype = Mac.getInstance(HMAC);
+            this.prototype.init(new SecretKeySpec(key, HMAC));
+        } catch (GeneralSecurityException ex) {
+            // Every JRE ships HmacSHA256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Issues a token for an authenticated user.
+     *
+     * @param authentication the authenticated user
+     * @return the token and its lifetime
+     */
+    public IssuedToken issue(Authentication authentication) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        String payload = ENCODER.encodeToString((authentication.getName() + "|" + authorities + "|" + expiresAt.getEpochSecond())
+                .getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(payload + "." + ENCODER.encodeToString(sign(payload)), ttl);
+    }
+
+    /**
+     * Verifies a token.
+     *
+     * @param token the bearer token
+     * @return the authenticated user, or {@code null} if the token is malformed, forged or expired
+     */
+    public Authentication verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return null;
+        }
+        String payload = token.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(sign(payload), DECODER.decode(token.substring(dot + 1)))) {
+                return null;
+            }
+            String[] fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split("\\|", -1);
+            if (fields.length != 3 || Long.parseLong(fields[2]) <= clock.instant().getEpochSecond()) {
+                return null;
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(fields[0], null,
+                    AuthorityUtils.commaSeparatedStringToAuthorityList(fields[1]));
+        } catch (IllegalArgumentException ex) {
+            // Not Base64, or a non-numeric expiry
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @param token     the bearer token
+     * @param expiresIn how long the token is valid
+     */
+    public record IssuedToken(String token, Duration expiresIn) {
+    }
+}
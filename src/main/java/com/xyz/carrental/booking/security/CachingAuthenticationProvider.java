@@ -0,0 +1,98 @@
+package com.xyz.carrental.booking.security;
+
+import com.xyz.carrental.booking.cache.BoundedCache;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * {@link DaoAuthenticationProvider} that remembers successful password checks for a short time, so that repeated
+ * Basic Auth requests with the same credentials skip the BCrypt verification.
+ * <p>
+ * Rules:
+ * - Only the password comparison is cached: every request still loads the user from {@link UserDetailsService} and
+ *   runs the account status checks, so a disabled, locked or expired account or a removed role takes effect at once,
+ *   and the authorities come from the freshly loaded user
+ * - Only successful checks are cached; a wrong password always goes through BCrypt
+ * - Entries are keyed by an HMAC-SHA256 of username, stored password hash and presented password under a random key
+ *   generated at startup, so neither the password nor a fast unkeyed hash of it is kept in memory, and a changed
+ *   password no longer matches its entry
+ * - Entries expire after {@code ttl}; the cache is bounded by {@code maxSize}, the oldest entries are evicted first
+ */
+public class CachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final Duration ttl;
+    private final BoundedCache<String, Boolean> cache;
+    private final Mac prototype;
+
+    public CachingAuthenticationProvider(PasswordEncoder passwordEncoder, UserDetailsService userDetailsService,
+                                         long maxSize, Duration ttl) {
+        super(passwordEncoder);
+        setUserDetailsService(userDetailsService);
+        this.ttl = ttl;
+        this.cache = new BoundedCache<>(maxSize);
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        try {
+            this.prototype = Mac.getInstance(HMAC);
+            this.prototype.init(new SecretKeySpec(key, HMAC));
+        } catch (GeneralSecurityException ex) {
+            // Every JRE ships HmacSHA256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String password) || userDetails.getPassword() == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        String key = digest(userDetails.getUsername(), userDetails.getPassword(), password);
+        if (cache.get(key) != null) {
+            return;
+        }
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        cache.put(key, Boolean.TRUE, ttl);
+    }
+
+    /**
+     * Returns the cache counters.
+     */
+    public BoundedCache.Stats stats() {
+        return cache.stats();
+    }
+
+    private String digest(String username, String storedPassword, String password) {
+        Mac mac = newMac();
+        mac.update(username.getBytes(StandardCharsets.UTF_8));
+        // Separator that cannot occur in a UTF-8 encoded string
+        mac.update((byte) 0xFF);
+        mac.update(storedPassword.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0xFF);
+        return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.xyz.carrental.booking.security;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.User;
@@ -12,7 +17,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 public class SecurityConfig {
 
@@ -40,20 +49,62 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * Authenticates Basic Auth credentials against {@link UserDetailsService}.
+     * <p>
+     * BCrypt is deliberately slow (tens of milliseconds per check), so successful password checks are remembered for
+     * {@code booking.auth.credential-cache.ttl} (see {@link CachingAuthenticationProvider}).
+     */
+    AuthenticationManager authenticationManager(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                                                boolean cacheEnabled, long cacheMaxSize, Duration cacheTtl) {
+        if (cacheEnabled) {
+            log.info("Caching verified credentials: max-size={}, ttl={}", cacheMaxSize, cacheTtl);
+            return new ProviderManager(new CachingAuthenticationProvider(passwordEncoder, userDetailsService,
+                    cacheMaxSize, cacheTtl));
+        }
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(passwordEncoder);
+        dao.setUserDetailsService(userDetailsService);
+        return new ProviderManager(dao);
+    }
+
     /**
      * Security filter chain with clear rules:
-     * - /api/v1/bookings/** → requires authentication
+     * - /api/v1/bookings/** and /api/v1/reactive/bookings/** → requires authentication
+     * - GET /api/v1/bookings/export → ADMIN only (full dump of all bookings)
      * - /stub/** → open for local stubs/testing
+     * - /actuator/health → open; other actuator endpoints (metrics, prometheus) → ADMIN only
+     * - GET /api/v1/quotes → USER or ADMIN
+     * - POST /auth/token → USER or ADMIN, with Basic Auth only
      * - everything else → requires authentication
+     * <p>
+     * Every other endpoint accepts either Basic Auth or a bearer token from {@code /auth/token}.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   UserDetailsService userDetailsService,
+                                                   PasswordEncoder passwordEncoder,
+                                                   AuthTokenService authTokenService,
+                                                   @Value("${booking.auth.credential-cache.enabled:true}") boolean cacheEnabled,
+                                                   @Value("${booking.auth.credential-cache.max-size:10000}") long cacheMaxSize,
+                                                   @Value("${booking.auth.credential-cache.ttl:1m}") Duration cacheTtl) throws Exception {
         http
+            .authenticationManager(authenticationManager(userDetailsService, passwordEncoder,
+                    cacheEnabled, cacheMaxSize, cacheTtl))
+            .addFilterBefore(new BearerTokenAuthenticationFilter(authTokenService), BasicAuthenticationFilter.class)
             .csrf(csrf -> csrf.disable()) // disable CSRF for APIs
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers("/stub/**").permitAll()
+                    .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.POST, "/auth/token").hasAnyRole("USER", "ADMIN")
                     .requestMatchers(HttpMethod.POST, "/api/v1/bookings").hasAnyRole("USER", "ADMIN")
+                    .requestMatchers(HttpMethod.POST, "/api/v1/bookings/batch").hasAnyRole("USER", "ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/api/v1/bookings").hasAnyRole("USER", "ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/api/v1/bookings/export").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.GET, "/api/v1/bookings/**").hasAnyRole("USER", "ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/api/v1/quotes").hasAnyRole("USER", "ADMIN")
+                    .requestMatchers(HttpMethod.POST, "/api/v1/reactive/bookings").hasAnyRole("USER", "ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/api/v1/reactive/bookings/**").hasAnyRole("USER", "ADMIN")
                     .anyRequest().authenticated()
             )
             .httpBasic(Customizer.withDefaults())  // enable Basic Auth
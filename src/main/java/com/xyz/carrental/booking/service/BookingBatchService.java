@@ -0,0 +1,22 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.dto.BatchBookingResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for confirming bookings in bulk.
+ */
+public interface BookingBatchService {
+
+    /**
+     * Confirms a batch of bookings.
+     * <p>
+     * Each booking is validated, priced and confirmed independently; one invalid booking does not fail the batch.
+     *
+     * @param requests the bookings to confirm
+     * @return per-booking outcomes, in request order
+     */
+    BatchBookingResponse confirmBookings(List<ConfirmBookingRequest> requests);
+}
@@ -0,0 +1,213 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BatchBookingItemResult;
+import com.xyz.carrental.booking.dto.BatchBookingResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.exception.BookingValidationException;
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.jfr.BookingPersistEvent;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for confirming bookings in bulk.
+ * <p>
+ * Flow:
+ * - Validate every request; invalid ones are reported as failed
+ * - Look up each distinct license and each distinct segment rate once, concurrently
+ * - Reserve fleet capacity per booking; bookings for a fully booked segment and period are reported as failed
+ * - Persist all remaining bookings in a single transaction using JDBC batch inserts; if that fails, retry in halves
+ *   so that only the bookings that cannot be saved are reported as failed
+ */
+@Slf4j
+@Service
+public class BookingBatchServiceImpl implements BookingBatchService {
+    private final DrivingLicenseClient drivingLicenseClient;
+    private final CarPricingClient carPricingClient;
+    private final BookingWriter bookingWriter;
+    private final BookingMapper bookingMapper;
+    private final LicenseValidator licenseValidator;
+    private final RentalPriceCalculator rentalPriceCalculator;
+    private final BookingIdGenerator bookingIdGenerator;
+    private final FleetAvailabilityIndex fleetAvailabilityIndex;
+    private final Validator validator;
+    private final int maxBatchSize;
+    private final int lookupConcurrency;
+
+    public BookingBatchServiceImpl(DrivingLicenseClient drivingLicenseClient,
+                                   CarPricingClient carPricingClient,
+                                   BookingWriter bookingWriter,
+                                   BookingMapper bookingMapper,
+                                   LicenseValidator licenseValidator,
+                                   RentalPriceCalculator rentalPriceCalculator,
+                                   BookingIdGenerator bookingIdGenerator,
+                                   FleetAvailabilityIndex fleetAvailabilityIndex,
+                                   Validator validator,
+                                   @Value("${booking.batch.max-size:500}") int maxBatchSize,
+                                   @Value("${booking.batch.lookup-concurrency:16}") int lookupConcurrency) {
+        this.drivingLicenseClient = drivingLicenseClient;
+        this.carPricingClient = carPricingClient;
+        this.bookingWriter = bookingWriter;
+        this.bookingMapper = bookingMapper;
+        this.licenseValidator = licenseValidator;
+        this.rentalPriceCalculator = rentalPriceCalculator;
+        this.bookingIdGenerator = bookingIdGenerator;
+        this.fleetAvailabilityIndex = fleetAvailabilityIndex;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+        this.lookupConcurrency = lookupConcurrency;
+    }
+
+    @Override
+    public BatchBookingResponse confirmBookings(List<ConfirmBookingRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BookingValidationException("Batch must contain at least one booking");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new BookingValidationException("Batch cannot contain more than " + maxBatchSize + " bookings");
+        }
+        log.info("Confirming batch of {} bookings", requests.size());
+
+        BatchBookingItemResult[] results = new BatchBookingItemResult[requests.size()];
+        List<Integer> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String violations = validate(requests.get(i));
+            if (violations == null) {
+                valid.add(i);
+            } else {
+                results[i] = BatchBookingItemResult.failed(i, violations);
+            }
+        }
+
+        Set<String> licenseNumbers = new HashSet<>();
+        Set<CarSegment> segments = EnumSet.noneOf(CarSegment.class);
+        for (int i : valid) {
+            licenseNumbers.add(requests.get(i).drivingLicenseNumber());
+            segments.add(requests.get(i).carSegment());
+        }
+        log.debug("Batch needs {} license lookups and {} rate lookups", licenseNumbers.size(), segments.size());
+
+        var lookups = Mono.zip(
+                lookupAll(licenseNumbers, licenseNumber -> drivingLicenseClient.getLicenseDetailsAsync(licenseNumber)
+                        .doOnNext(licenseValidator::validateLicense)),
+                lookupAll(segments, segment -> carPricingClient.getRateForCategoryAsync(segment.name()))
+        ).block();
+        Map<String, Lookup<LicenseResponse>> licenses = lookups.getT1();
+        Map<CarSegment, Lookup<RateResponse>> rates = lookups.getT2();
+
+        List<Integer> pending = new ArrayList<>(valid.size());
+        List<Booking> bookings = new ArrayList<>(valid.size());
+        for (int i : valid) {
+            ConfirmBookingRequest req = requests.get(i);
+            Lookup<LicenseResponse> license = licenses.get(req.drivingLicenseNumber());
+            Lookup<RateResponse> rate = rates.get(req.carSegment());
+            if (license.error() != null) {
+                results[i] = BatchBookingItemResult.failed(i, license.error());
+            } else if (rate.error() != null) {
+                results[i] = BatchBookingItemResult.failed(i, rate.error());
+            } else if (!fleetAvailabilityIndex.tryReserve(req.carSegment(), req.startDate(), req.endDate())) {
+                results[i] = BatchBookingItemResult.failed(i, "No " + req.carSegment() + " cars available between "
+                        + req.startDate() + " and " + req.endDate());
+            } else {
+                pending.add(i);
+                bookings.add(bookingMapper.toBooking(req, license.value().ownerName(),
+                        rentalPriceCalculator.calculateTotal(req.carSegment(), rate.value().ratePerDay(), req.startDate(), req.endDate()),
+                        bookingIdGenerator.nextId()));
+            }
+        }
+
+        persist(requests, pending, bookings, results);
+
+        int confirmed = (int) Arrays.stream(results).filter(r -> r.status() == BatchBookingItemResult.Status.CONFIRMED).count();
+        log.info("Batch completed: {} confirmed, {} failed", confirmed, results.length - confirmed);
+        return new BatchBookingResponse(confirmed, results.length - confirmed, List.of(results));
+    }
+
+    /**
+     * Saves the bookings in one transaction. If it fails, the batch is split in halves and each half is saved in its
+     * own transaction, down to single bookings, so only the bookings that cannot be saved are reported as failed.
+     */
+    private void persist(List<ConfirmBookingRequest> requests, List<Integer> pending, List<Booking> bookings,
+                         BatchBookingItemResult[] results) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        BookingPersistEvent event = BookingPersistEvent.start();
+        try {
+            List<Booking> saved = bookingWriter.saveAll(bookings);
+            event.end(null, bookings.size(), null);
+            for (int j = 0; j < pending.size(); j++) {
+                results[pending.get(j)] = BatchBookingItemResult.confirmed(pending.get(j), saved.get(j).getId());
+            }
+        } catch (RuntimeException ex) {
+            event.end(null, bookings.size(), ex);
+            if (bookings.size() > 1) {
+                log.warn("Failed to persist batch of {} bookings, retrying in halves: {}", bookings.size(), ex.getMessage());
+                int half = bookings.size() / 2;
+                persist(requests, pending.subList(0, half), bookings.subList(0, half), results);
+                persist(requests, pending.subList(half, pending.size()), bookings.subList(half, bookings.size()), results);
+                return;
+            }
+            int i = pending.get(0);
+            log.error("Failed to persist booking {} of the batch", i, ex);
+            ConfirmBookingRequest req = requests.get(i);
+            fleetAvailabilityIndex.release(req.carSegment(), req.startDate(), req.endDate());
+            results[i] = BatchBookingItemResult.failed(i, "Failed to save booking");
+        }
+    }
+
+    private String validate(ConfirmBookingRequest request) {
+        if (request == null) {
+            return "Booking must not be null";
+        }
+        Set<ConstraintViolation<ConfirmBookingRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Runs one lookup per distinct key, with bounded concurrency, and collects each outcome (value or error).
+     */
+    private <K, V> Mono<Map<K, Lookup<V>>> lookupAll(Collection<K> keys, Function<K, Mono<V>> lookup) {
+        return Flux.fromIterable(keys)
+                .flatMap(key -> lookup.apply(key)
+                        .map(Lookup::of)
+                        .onErrorResume(ex -> Mono.just(Lookup.failed(Objects.requireNonNullElse(ex.getMessage(), "Lookup failed"))))
+                        .defaultIfEmpty(Lookup.failed("Lookup returned no data"))
+                        .map(result -> Map.entry(key, result)), lookupConcurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private record Lookup<V>(V value, String error) {
+        static <V> Lookup<V> of(V value) {
+            return new Lookup<>(value, null);
+        }
+
+        static <V> Lookup<V> failed(String error) {
+            return new Lookup<>(null, error);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+import com.xyz.carrental.booking.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting bookings in bulk.
+ */
+public interface BookingExportService {
+
+    /**
+     * Writes every booking matching the criteria to {@code out}, one row at a time.
+     *
+     * @param criteria the filters to apply
+     * @param format   the output format
+     * @param out      the stream to write to; it is flushed but not closed
+     * @return the number of bookings written
+     * @throws IOException if writing to {@code out} fails, e.g. because the client disconnected
+     */
+    long export(BookingSearchCriteria criteria, ExportFormat format, OutputStream out) throws IOException;
+}
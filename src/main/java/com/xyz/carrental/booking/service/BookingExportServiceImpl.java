@@ -0,0 +1,110 @@
+package com.xyz.carrental.booking.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+import com.xyz.carrental.booking.dto.ExportFormat;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for streaming booking exports.
+ * <p>
+ * Bookings are read through a forward-only cursor ({@link BookingRepository#stream}) and written as they arrive,
+ * so memory use does not depend on the number of bookings exported. The output is flushed every
+ * {@code booking.export.flush-every} rows, so the client receives data while the export is still running.
+ */
+@Slf4j
+@Service
+public class BookingExportServiceImpl implements BookingExportService {
+    private static final String CSV_HEADER =
+            "bookingId,drivingLicenseNumber,customerName,age,startDate,endDate,carSegment,rentalPrice\n";
+
+    private final BookingRepository bookingRepository;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public BookingExportServiceImpl(BookingRepository bookingRepository,
+                                    ObjectMapper objectMapper,
+                                    @Value("${booking.export.fetch-size:500}") int fetchSize,
+                                    @Value("${booking.export.flush-every:1000}") int flushEvery) {
+        this.bookingRepository = bookingRepository;
+        this.jsonWriter = objectMapper.writerFor(BookingDetailsResponse.class);
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(BookingSearchCriteria criteria, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting bookings as {} for carSegment={} from={} to={}", format, criteria.carSegment(), criteria.from(), criteria.to());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long rows = 0;
+        try (Stream<BookingDetailsResponse> bookings = bookingRepository.stream(criteria, fetchSize)) {
+            Iterator<BookingDetailsResponse> it = bookings.iterator();
+            while (it.hasNext()) {
+                BookingDetailsResponse booking = it.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, booking);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(booking));
+                    writer.write('\n');
+                }
+                if (++rows % flushEvery == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} bookings", rows);
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, BookingDetailsResponse booking) throws IOException {
+        writer.write(booking.bookingId().toString());
+        writer.write(',');
+        writer.write(csv(booking.drivingLicenseNumber()));
+        writer.write(',');
+        writer.write(csv(booking.customerName()));
+        writer.write(',');
+        writer.write(Integer.toString(booking.age()));
+        writer.write(',');
+        writer.write(booking.startDate().toString());
+        writer.write(',');
+        writer.write(booking.endDate().toString());
+        writer.write(',');
+        writer.write(booking.carSegment().name());
+        writer.write(',');
+        writer.write(booking.rentalPrice() == null ? "" : booking.rentalPrice().toPlainString());
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling embedded quotes
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,20 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.dto.BookingPageResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+
+/**
+ * Service interface for searching bookings.
+ */
+public interface BookingSearchService {
+
+    /**
+     * Returns one page of bookings matching the criteria, ordered by start date and then booking ID.
+     *
+     * @param criteria the filters to apply
+     * @param cursor   the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param limit    the requested page size
+     * @return the page of bookings and the cursor for the next page
+     */
+    BookingPageResponse searchBookings(BookingSearchCriteria criteria, String cursor, int limit);
+}
@@ -0,0 +1,81 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.BookingPageResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+import com.xyz.carrental.booking.exception.BookingValidationException;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service implementation for keyset-paginated booking search.
+ * <p>
+ * Rules:
+ * - The page size must be positive and is capped at {@code booking.search.max-page-size}
+ * - {@code from} must not be after {@code to}
+ * - The cursor encodes the start date and ID of the last booking on the previous page; it is opaque to clients
+ */
+@Slf4j
+@Service
+public class BookingSearchServiceImpl implements BookingSearchService {
+    private final BookingRepository bookingRepository;
+    private final int maxPageSize;
+
+    public BookingSearchServiceImpl(BookingRepository bookingRepository,
+                                    @Value("${booking.search.max-page-size:100}") int maxPageSize) {
+        this.bookingRepository = bookingRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public BookingPageResponse searchBookings(BookingSearchCriteria criteria, String cursor, int limit) {
+        if (limit < 1) {
+            throw new BookingValidationException("limit must be at least 1");
+        }
+        if (criteria.from() != null && criteria.to() != null && criteria.from().isAfter(criteria.to())) {
+            throw new BookingValidationException("from must not be after to");
+        }
+        int pageSize = Math.min(limit, maxPageSize);
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        log.debug("Searching bookings after {} (pageSize={})", after, pageSize);
+
+        // Fetch one extra row to learn whether another page exists
+        List<BookingDetailsResponse> rows = bookingRepository.search(criteria,
+                after == null ? null : after.startDate(), after == null ? null : after.id(), pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new BookingPageResponse(rows, null);
+        }
+        List<BookingDetailsResponse> page = rows.subList(0, pageSize);
+        BookingDetailsResponse last = page.get(pageSize - 1);
+        return new BookingPageResponse(List.copyOf(page), new Cursor(last.startDate(), last.bookingId()).encode());
+    }
+
+    record Cursor(LocalDate startDate, UUID id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((startDate + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected two cursor parts");
+                }
+                return new Cursor(LocalDate.parse(parts[0]), UUID.fromString(parts[1]));
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                throw new BookingValidationException("Invalid cursor");
+            }
+        }
+    }
+}
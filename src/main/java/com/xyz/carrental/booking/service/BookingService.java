@@ -2,6 +2,7 @@ package com.xyz.carrental.booking.service;
 
 import com.xyz.carrental.booking.dto.BookingDetailsResponse;
 import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.timing.StageTimings;
 
 import java.util.UUID;
 
@@ -18,7 +19,29 @@ public interface BookingService {
      * @param request the booking confirmation request containing customer and booking details
      * @return the unique ID of the confirmed booking
      */
-    UUID confirmBooking(ConfirmBookingRequest request);
+    default UUID confirmBooking(ConfirmBookingRequest request) {
+        return confirmBooking(request, StageTimings.NONE);
+    }
+
+    /**
+     * Confirms a new car booking, adding the duration of each stage to {@code timings}.
+     *
+     * @param request the booking confirmation request containing customer and booking details
+     * @param timings the request's stage timings, or {@link StageTimings#NONE}
+     * @return the unique ID of the confirmed booking
+     */
+    UUID confirmBooking(ConfirmBookingRequest request, StageTimings timings);
+
+    /**
+     * Confirms a new car booking under an ID assigned in advance, e.g. when the ID was already returned to the client
+     * by the asynchronous intake.
+     *
+     * @param request   the booking confirmation request containing customer and booking details
+     * @param bookingId the ID to save the booking under
+     * @param timings   the request's stage timings, or {@link StageTimings#NONE}
+     * @return {@code bookingId}
+     */
+    UUID confirmBooking(ConfirmBookingRequest request, UUID bookingId, StageTimings timings);
 
     /**
      * Retrieves detailed information for a booking by its ID.
@@ -26,5 +49,16 @@ public interface BookingService {
      * @param id the unique identifier of the booking
      * @return the booking details response
      */
-    BookingDetailsResponse getBookingDetails(UUID id);
+    default BookingDetailsResponse getBookingDetails(UUID id) {
+        return getBookingDetails(id, StageTimings.NONE);
+    }
+
+    /**
+     * Retrieves detailed information for a booking, adding the duration of each stage to {@code timings}.
+     *
+     * @param id      the unique identifier of the booking
+     * @param timings the request's stage timings, or {@link StageTimings#NONE}
+     * @return the booking details response
+     */
+    BookingDetailsResponse getBookingDetails(UUID id, StageTimings timings);
 }
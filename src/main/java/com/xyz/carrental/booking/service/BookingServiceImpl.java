@@ -1,23 +1,30 @@
 package com.xyz.carrental.booking.service;
 
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.cache.BookingDetailsCache;
 import com.xyz.carrental.booking.client.CarPricingClient;
 import com.xyz.carrental.booking.client.DrivingLicenseClient;
 import com.xyz.carrental.booking.dto.BookingDetailsResponse;
 import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
 import com.xyz.carrental.booking.entity.Booking;
 import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.jfr.BookingConfirmationEvent;
+import com.xyz.carrental.booking.jfr.BookingPersistEvent;
+import com.xyz.carrental.booking.jfr.LicenseValidationEvent;
 import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.metrics.BookingMetrics;
+import com.xyz.carrental.booking.metrics.BookingMetrics.Stage;
 import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import com.xyz.carrental.booking.timing.StageTimings;
 import com.xyz.carrental.booking.validation.LicenseValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -32,55 +39,148 @@ public class BookingServiceImpl implements BookingService{
     private final DrivingLicenseClient drivingLicenseClient;
     private final CarPricingClient carPricingClient;
     private final BookingRepository bookingRepository;
+    private final BookingWriter bookingWriter;
     private final BookingMapper bookingMapper;
     private final LicenseValidator licenseValidator;
+    private final RentalPriceCalculator rentalPriceCalculator;
+    private final BookingIdGenerator bookingIdGenerator;
+    private final BookingDetailsCache bookingDetailsCache;
+    private final FleetAvailabilityIndex fleetAvailabilityIndex;
+    private final BookingMetrics bookingMetrics;
 
 
     /**
      * Confirms a new car booking.
      * <p>
-     * Validates the driving license, calculates the total rental price, and saves the booking record.
+     * Fetches the driving license and the daily rate concurrently, validates the license, calculates the total rental price,
+     * reserves a car of the segment for the rental days (see {@link FleetAvailabilityIndex}), and saves the booking record.
+     * <p>
+     * The remote lookups run outside any transaction; only the final save is transactional (see {@link BookingWriter}),
+     * so a slow upstream API does not hold a database connection.
+     * <p>
+     * Each stage is timed in {@link BookingMetrics} and recorded as a JFR event (see {@code com.xyz.carrental.booking.jfr}).
      *
-     * @param req the booking confirmation request
+     * @param req     the booking confirmation request
+     * @param timings the request's stage timings, or {@link StageTimings#NONE}
      * @return the unique ID of the confirmed booking
      */
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     @Override
-    public UUID confirmBooking(ConfirmBookingRequest req) {
-        log.info("Confirming booking for drivingLicenseNumber={} and carSegment={}", req.drivingLicenseNumber(), req.carSegment());
+    public UUID confirmBooking(ConfirmBookingRequest req, StageTimings timings) {
+        return confirmBooking(req, bookingIdGenerator.nextId(), timings);
+    }
 
-        var license = drivingLicenseClient.getLicenseDetails(req.drivingLicenseNumber());
-        log.debug("License details retrieved");
-        licenseValidator.validateLicense(license);
-        log.info("License validated successfully");
+    /**
+     * Confirms a new car booking under an ID assigned in advance, as {@link #confirmBooking(ConfirmBookingRequest, StageTimings)}.
+     *
+     * @param req       the booking confirmation request
+     * @param bookingId the ID to save the booking under
+     * @param timings   the request's stage timings, or {@link StageTimings#NONE}
+     * @return {@code bookingId}
+     */
+    @Override
+    public UUID confirmBooking(ConfirmBookingRequest req, UUID bookingId, StageTimings timings) {
+        long start = System.nanoTime();
+        BookingConfirmationEvent event = BookingConfirmationEvent.start();
+        Throwable error = null;
+        try {
+            return doConfirmBooking(req, bookingId, timings);
+        } catch (RuntimeException ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            bookingMetrics.record(Stage.CONFIRM_TOTAL, start);
+            event.end(req.carSegment(), req.drivingLicenseNumber(), error);
+        }
+    }
+
+    private UUID doConfirmBooking(ConfirmBookingRequest req, UUID bookingId, StageTimings timings) {
+        log.info("Confirming booking for drivingLicenseNumber={} and carSegment={}",
+                DrivingLicenseClient.maskLicense(req.drivingLicenseNumber()), req.carSegment());
 
-        var rateResponse = carPricingClient.getRateForCategory(req.carSegment().name());
-        log.debug("Rate retrieved: {}", rateResponse);
+        // License and rate lookups are independent, so run them concurrently. Validating the license
+        // inside the zip lets an invalid license fail fast and cancel the in-flight pricing call.
+        var lookups = Mono.zip(
+                bookingMetrics.time(Stage.LICENSE_LOOKUP, drivingLicenseClient.getLicenseDetailsAsync(req.drivingLicenseNumber()), timings)
+                        .doOnNext(license -> validateLicense(license, timings)),
+                bookingMetrics.time(Stage.RATE_LOOKUP, carPricingClient.getRateForCategoryAsync(req.carSegment().name()), timings)
+        ).block();
+        if (lookups == null) {
+            throw new BookingException("License or rate lookup returned no data");
+        }
+        var license = lookups.getT1();
+        log.info("License validated successfully");
+        var rateResponse = lookups.getT2();
+        log.debug("Rate retrieved: ratePerDay={}", rateResponse.ratePerDay());
 
-        long days = ChronoUnit.DAYS.between(req.startDate(), req.endDate()) + 1;
-        BigDecimal total = rateResponse.ratePerDay().multiply(BigDecimal.valueOf(days)).setScale(2, RoundingMode.HALF_UP);
+        long pricingStart = System.nanoTime();
+        BigDecimal total = rentalPriceCalculator.calculateTotal(req.carSegment(), rateResponse.ratePerDay(),
+                req.startDate(), req.endDate());
+        bookingMetrics.record(Stage.PRICE_CALCULATION, pricingStart, timings);
         log.debug("Total price calculated: {}", total);
 
-        Booking booking = bookingRepository.save(bookingMapper.toBooking(req, license.ownerName(), total));
+        fleetAvailabilityIndex.reserve(req.carSegment(), req.startDate(), req.endDate());
+        Booking booking;
+        long persistStart = System.nanoTime();
+        BookingPersistEvent persistEvent = BookingPersistEvent.start();
+        Throwable persistError = null;
+        try {
+            booking = bookingWriter.save(bookingMapper.toBooking(req, license.ownerName(), total, bookingId));
+        } catch (RuntimeException ex) {
+            persistError = ex;
+            fleetAvailabilityIndex.release(req.carSegment(), req.startDate(), req.endDate());
+            throw ex;
+        } finally {
+            bookingMetrics.record(Stage.PERSIST, persistStart, timings);
+            persistEvent.end(req.carSegment(), 1, persistError);
+        }
         log.info("Booking saved successfully with bookingId={}", booking.getId());
 
         return booking.getId();
     }
 
+    private void validateLicense(LicenseResponse license, StageTimings timings) {
+        long start = System.nanoTime();
+        LicenseValidationEvent event = LicenseValidationEvent.start();
+        Throwable error = null;
+        try {
+            licenseValidator.validateLicense(license);
+        } catch (RuntimeException ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            bookingMetrics.record(Stage.LICENSE_VALIDATION, start, timings);
+            event.end(license.licenseNumber(), error);
+        }
+    }
+
     /**
      * Retrieves booking details for the given booking ID.
+     * <p>
+     * Bookings are immutable once confirmed, so details are served from {@link BookingDetailsCache} after the first read.
      *
-     * @param id the unique booking identifier
+     * @param id      the unique booking identifier
+     * @param timings the request's stage timings, or {@link StageTimings#NONE}
      * @return the booking details response
      * @throws BookingException if the booking ID is not found
      */
     @Override
-    public BookingDetailsResponse getBookingDetails(UUID id) {
+    public BookingDetailsResponse getBookingDetails(UUID id, StageTimings timings) {
         log.info("Fetching booking details for bookingId={}", id);
+        long start = System.nanoTime();
+        try {
+            return bookingDetailsCache.get(id, key -> loadBookingDetails(key, timings));
+        } finally {
+            bookingMetrics.record(Stage.DETAILS_TOTAL, start);
+        }
+    }
 
-        Booking booking = bookingRepository.findById(id).orElseThrow(() -> new BookingException("Car Rental Booking details not found: " + id));
-        log.debug("Booking details retrieved: {}", booking);
-
-        return bookingMapper.toResponse(booking);
+    private BookingDetailsResponse loadBookingDetails(UUID id, StageTimings timings) {
+        long start = System.nanoTime();
+        try {
+            return bookingRepository.findDetailsById(id)
+                    .orElseThrow(() -> new BookingException("Car Rental Booking details not found: " + id));
+        } finally {
+            bookingMetrics.record(Stage.DETAILS_LOAD, start, timings);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.entity.Booking;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Persists bookings in a short, dedicated transaction.
+ * <p>
+ * Kept separate from {@link BookingServiceImpl} so that remote lookups run before a database
+ * connection is borrowed; the transaction covers only the write itself.
+ * <p>
+ * Bookings arrive with an application-assigned ID, so they are written with {@link EntityManager#persist}:
+ * {@code JpaRepository.save} would treat them as existing and issue a SELECT per row before inserting.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingWriter {
+    private final EntityManager entityManager;
+
+    /**
+     * Saves a fully priced and validated booking.
+     *
+     * @param booking the booking to persist
+     * @return the persisted booking
+     */
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public Booking save(Booking booking) {
+        entityManager.persist(booking);
+        return booking;
+    }
+
+    /**
+     * Saves a list of bookings in one transaction.
+     * <p>
+     * With {@code hibernate.jdbc.batch_size} set, the inserts are sent to the database in JDBC batches.
+     *
+     * @param bookings the bookings to persist
+     * @return the persisted bookings, in the same order
+     */
+    @Transactional(isolation = Isolation.SERIALIZABLE)
+    public List<Booking> saveAll(List<Booking> bookings) {
+        bookings.forEach(entityManager::persist);
+        return bookings;
+    }
+}
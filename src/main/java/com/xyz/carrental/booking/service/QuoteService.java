@@ -0,0 +1,22 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.QuoteResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for price quotes.
+ */
+public interface QuoteService {
+
+    /**
+     * Quotes the total price of renting a car of the segment for the period.
+     *
+     * @param segment   the car segment
+     * @param startDate first rental day
+     * @param endDate   last rental day
+     * @return the quote
+     */
+    QuoteResponse quote(CarSegment segment, LocalDate startDate, LocalDate endDate);
+}
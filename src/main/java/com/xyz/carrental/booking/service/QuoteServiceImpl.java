@@ -0,0 +1,66 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.QuoteResponse;
+import com.xyz.carrental.booking.exception.BookingValidationException;
+import com.xyz.carrental.booking.exception.UpstreamUnavailableException;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import com.xyz.carrental.booking.validation.BookingDatesValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Service implementation for price quotes, answered from local state only.
+ * <p>
+ * Rules:
+ * - Dates follow the same rules as bookings ({@link BookingDatesValidator})
+ * - The rate comes from the in-memory rate cache; a quote never waits for the Pricing API or touches the database
+ * - All segment rates are preloaded once the application is ready
+ * - Without a usable cached rate (e.g. the preload failed) the quote fails with 503, and the rate is loaded in the
+ *   background for the next request
+ * - With the rate cache disabled ({@code external.pricing.cache.enabled=false}) every quote fails with 503
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuoteServiceImpl implements QuoteService {
+
+    private final CarPricingClient carPricingClient;
+    private final RentalPriceCalculator rentalPriceCalculator;
+
+    /**
+     * Preloads the segment rates, so that quotes can be answered from the first request after startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadRates() {
+        if (!carPricingClient.preloadRates()) {
+            log.warn("Rate cache is disabled (external.pricing.cache.enabled=false): price quotes will return 503");
+        }
+    }
+
+    @Override
+    public QuoteResponse quote(CarSegment segment, LocalDate startDate, LocalDate endDate) {
+        if (segment == null) {
+            throw new BookingValidationException("Car segment is required");
+        }
+        String violation = BookingDatesValidator.checkPeriod(startDate, endDate);
+        if (violation != null) {
+            throw new BookingValidationException(violation);
+        }
+        RateResponse rate = carPricingClient.getCachedRate(segment);
+        if (rate == null) {
+            throw new UpstreamUnavailableException("Rate for " + segment + " is not available yet, please retry shortly");
+        }
+        BigDecimal total = rentalPriceCalculator.calculateTotal(segment, rate.ratePerDay(), startDate, endDate);
+        return new QuoteResponse(segment, startDate, endDate, ChronoUnit.DAYS.between(startDate, endDate) + 1,
+                rate.ratePerDay(), total);
+    }
+}
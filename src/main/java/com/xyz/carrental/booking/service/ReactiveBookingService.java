@@ -0,0 +1,31 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link BookingService}.
+ * <p>
+ * Defines the same operations, but no method blocks the calling thread.
+ */
+public interface ReactiveBookingService {
+
+    /**
+     * Confirms a new car booking based on the provided request.
+     *
+     * @param request the booking confirmation request containing customer and booking details
+     * @return a {@link Mono} emitting the unique ID of the confirmed booking
+     */
+    Mono<UUID> confirmBooking(ConfirmBookingRequest request);
+
+    /**
+     * Retrieves detailed information for a booking by its ID.
+     *
+     * @param id the unique identifier of the booking
+     * @return a {@link Mono} emitting the booking details response
+     */
+    Mono<BookingDetailsResponse> getBookingDetails(UUID id);
+}
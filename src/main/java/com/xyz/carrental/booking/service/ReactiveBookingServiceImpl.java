@@ -0,0 +1,75 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.repository.ReactiveBookingRepository;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking implementation of {@link ReactiveBookingService}.
+ * <p>
+ * Follows the same flow as {@link BookingServiceImpl} and shares its validation, pricing and mapping,
+ * but persists through R2DBC so no thread waits on the upstream APIs or the database.
+ * <p>
+ * The car reserved in {@link FleetAvailabilityIndex} is released if the insert fails or the subscription is
+ * cancelled before the booking is saved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveBookingServiceImpl implements ReactiveBookingService {
+    private final DrivingLicenseClient drivingLicenseClient;
+    private final CarPricingClient carPricingClient;
+    private final ReactiveBookingRepository reactiveBookingRepository;
+    private final BookingMapper bookingMapper;
+    private final LicenseValidator licenseValidator;
+    private final RentalPriceCalculator rentalPriceCalculator;
+    private final BookingIdGenerator bookingIdGenerator;
+    private final FleetAvailabilityIndex fleetAvailabilityIndex;
+
+    @Override
+    public Mono<UUID> confirmBooking(ConfirmBookingRequest req) {
+        return Mono.zip(
+                        drivingLicenseClient.getLicenseDetailsAsync(req.drivingLicenseNumber())
+                                .doOnNext(licenseValidator::validateLicense),
+                        carPricingClient.getRateForCategoryAsync(req.carSegment().name()))
+                .switchIfEmpty(Mono.error(() -> new BookingException("License or rate lookup returned no data")))
+                .map(lookups -> bookingMapper.toBooking(req, lookups.getT1().ownerName(),
+                        rentalPriceCalculator.calculateTotal(req.carSegment(), lookups.getT2().ratePerDay(), req.startDate(), req.endDate()),
+                        bookingIdGenerator.nextId()))
+                .flatMap(booking -> Mono.usingWhen(
+                        Mono.fromSupplier(() -> {
+                            fleetAvailabilityIndex.reserve(req.carSegment(), req.startDate(), req.endDate());
+                            return booking;
+                        }),
+                        reactiveBookingRepository::insert,
+                        reserved -> Mono.empty(),
+                        (reserved, ex) -> release(req),
+                        // Client disconnected or the request timed out before the booking was saved
+                        reserved -> release(req)))
+                .doOnNext(bookingId -> log.info("Booking saved successfully with bookingId={}", bookingId));
+    }
+
+    private Mono<Void> release(ConfirmBookingRequest req) {
+        return Mono.fromRunnable(() -> fleetAvailabilityIndex.release(req.carSegment(), req.startDate(), req.endDate()));
+    }
+
+    @Override
+    public Mono<BookingDetailsResponse> getBookingDetails(UUID id) {
+        return reactiveBookingRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new BookingException("Car Rental Booking details not found: " + id)))
+                .map(bookingMapper::toResponse);
+    }
+}
@@ -0,0 +1,46 @@
+package com.xyz.carrental.booking.service;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Calculates the total rental price for a booking.
+ * <p>
+ * Total = rate per day * number of days (start and end date inclusive), rounded half-up to 2 decimals, adjusted by
+ * the configured {@link PricingRules} (seasonal rates, weekend surcharge, long-rental discount).
+ * <p>
+ * This is the {@link BigDecimal} boundary of the {@link PricingEngine}, which works in {@code long} cents.
+ */
+@Component
+public class RentalPriceCalculator {
+
+    private final PricingEngine pricingEngine;
+
+    public RentalPriceCalculator(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+    }
+
+    /**
+     * Calculates the total price for the rental period.
+     *
+     * @param segment    the booked segment
+     * @param ratePerDay the daily rate for the booked segment
+     * @param startDate  first rental day
+     * @param endDate    last rental day
+     * @return the total price with scale 2
+     */
+    public BigDecimal calculateTotal(CarSegment segment, BigDecimal ratePerDay, LocalDate startDate, LocalDate endDate) {
+        try {
+            return BigDecimal.valueOf(pricingEngine.totalCents(segment, ratePerDay.unscaledValue().longValueExact(),
+                    ratePerDay.scale(), startDate, endDate), 2);
+        } catch (ArithmeticException ex) {
+            // Rate with more precision than long arithmetic can carry
+            return pricingEngine.totalOf(segment, ratePerDay, startDate, endDate);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.xyz.carrental.booking.timing;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Wires {@link StageTimings} into Spring MVC.
+ * <p>
+ * - Controller methods can declare a {@link StageTimings} parameter; it resolves to the request's accumulator,
+ *   or to {@link StageTimings#NONE} when the request is not sampled
+ * - {@link SerializationTimingAdvice} marks the start of body serialization
+ */
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new StageTimingsArgumentResolver());
+    }
+
+    static class StageTimingsArgumentResolver implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.getParameterType() == StageTimings.class;
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+            Object timings = webRequest.getAttribute(StageTimings.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            return timings != null ? timings : StageTimings.NONE;
+        }
+    }
+}
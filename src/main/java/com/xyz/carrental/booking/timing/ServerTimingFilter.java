@@ -0,0 +1,79 @@
+package com.xyz.carrental.booking.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adds a {@code Server-Timing} header to sampled booking API responses.
+ * <p>
+ * Rules:
+ * - Disabled unless {@code booking.server-timing.enabled} is set
+ * - When enabled, a request is sampled if it carries the {@code X-Server-Timing} header, or at random with
+ *   probability {@code booking.server-timing.sample-rate}
+ * - Only {@code /api/v1/bookings} endpoints are timed; exports are excluded because their body is streamed
+ * <p>
+ * The response body of a sampled request is buffered so that the header, which includes the serialization time,
+ * can still be set once the body is written. Requests that are not sampled are passed through untouched.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+    public static final String REQUEST_HEADER = "X-Server-Timing";
+
+    private static final String PATH_PREFIX = "/api/v1/bookings";
+    private static final String EXPORT_PATH = PATH_PREFIX + "/export";
+
+    private final boolean enabled;
+    private final double sampleRate;
+
+    public ServerTimingFilter(@Value("${booking.server-timing.enabled:false}") boolean enabled,
+                              @Value("${booking.server-timing.sample-rate:0.0}") double sampleRate) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(PATH_PREFIX) || path.startsWith(EXPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!sampled(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        StageTimings timings = new StageTimings();
+        request.setAttribute(StageTimings.ATTRIBUTE, timings);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } finally {
+            timings.serializationFinished();
+            timings.record(StageTimings.Metric.TOTAL, start);
+            wrapper.setHeader(SERVER_TIMING, timings.toHeaderValue());
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean sampled(HttpServletRequest request) {
+        return request.getHeader(REQUEST_HEADER) != null
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
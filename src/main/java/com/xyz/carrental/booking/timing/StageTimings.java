@@ -0,0 +1,121 @@
+package com.xyz.carrental.booking.timing;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request-scoped accumulator of stage durations, rendered as a {@code Server-Timing} header.
+ * <p>
+ * Behaviour:
+ * - One instance is created per sampled request by {@link ServerTimingFilter} and passed explicitly down the call chain,
+ *   so it works unchanged when stages complete on reactor or virtual threads
+ * - Durations of the same metric add up; stages running concurrently (e.g. the license and rate lookups) each keep
+ *   their own duration
+ * - {@link #NONE} is passed when the request is not sampled; recording into it does nothing
+ */
+public final class StageTimings {
+
+    /**
+     * Request attribute holding the accumulator of a sampled request.
+     */
+    public static final String ATTRIBUTE = StageTimings.class.getName();
+
+    /**
+     * Accumulator for requests that are not sampled.
+     */
+    public static final StageTimings NONE = new StageTimings(false);
+
+    /**
+     * A {@code Server-Timing} metric.
+     */
+    public enum Metric {
+        LICENSE("license"),
+        PRICING("pricing"),
+        VALIDATE("validate"),
+        DB("db"),
+        SERIALIZE("serialize"),
+        TOTAL("total");
+
+        private final String headerName;
+
+        Metric(String headerName) {
+            this.headerName = headerName;
+        }
+    }
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final AtomicLongArray nanos;
+    private volatile long serializationStart;
+
+    public StageTimings() {
+        this(true);
+    }
+
+    private StageTimings(boolean active) {
+        this.nanos = active ? new AtomicLongArray(METRICS.length) : null;
+    }
+
+    public boolean isActive() {
+        return nanos != null;
+    }
+
+    /**
+     * Adds {@code elapsedNanos} to the metric; a {@code null} metric is ignored.
+     */
+    public void add(Metric metric, long elapsedNanos) {
+        if (nanos != null && metric != null) {
+            nanos.addAndGet(metric.ordinal(), elapsedNanos);
+        }
+    }
+
+    /**
+     * Adds the time elapsed since {@code startNanos}, taken from {@link System#nanoTime()}.
+     */
+    public void record(Metric metric, long startNanos) {
+        if (nanos != null) {
+            add(metric, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Marks the start of response body serialization.
+     */
+    void serializationStarted() {
+        if (nanos != null) {
+            serializationStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Records the serialization stage, if {@link #serializationStarted()} was called.
+     */
+    void serializationFinished() {
+        long start = serializationStart;
+        if (start != 0) {
+            record(Metric.SERIALIZE, start);
+        }
+    }
+
+    /**
+     * Renders the recorded metrics, in milliseconds, e.g. {@code license;dur=12.4, pricing;dur=8.1, db;dur=3.0}.
+     * Metrics that were not recorded are left out.
+     */
+    public String toHeaderValue() {
+        if (nanos == null) {
+            return "";
+        }
+        StringBuilder header = new StringBuilder(128);
+        for (Metric metric : METRICS) {
+            long value = nanos.get(metric.ordinal());
+            if (value > 0) {
+                if (!header.isEmpty()) {
+                    header.append(", ");
+                }
+                header.append(metric.headerName).append(";dur=")
+                        .append(String.format(Locale.ROOT, "%.1f", value / 1_000_000.0));
+            }
+        }
+        return header.toString();
+    }
+}
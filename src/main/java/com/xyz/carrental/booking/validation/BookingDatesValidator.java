@@ -4,6 +4,7 @@ import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
 /**
@@ -16,11 +17,24 @@ import java.time.temporal.ChronoUnit;
  */
 public class BookingDatesValidator implements ConstraintValidator<ValidBookingDates, ConfirmBookingRequest> {
 
+    public static final int MAX_RENTAL_DAYS = 30;
+
     @Override
     public boolean isValid(ConfirmBookingRequest req, ConstraintValidatorContext context) {
-        if (req.startDate() == null || req.endDate() == null) return false;
-        if (req.startDate().isAfter(req.endDate())) return false;
-        long days = ChronoUnit.DAYS.between(req.startDate(), req.endDate()) + 1;
-        return days <= 30;
+        return checkPeriod(req.startDate(), req.endDate()) == null;
+    }
+
+    /**
+     * Applies the rules above to a rental period; also used for price quotes.
+     *
+     * @param startDate first rental day
+     * @param endDate   last rental day
+     * @return {@code null} if the period is valid, otherwise the rule it breaks
+     */
+    public static String checkPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) return "Start and end dates are required";
+        if (startDate.isAfter(endDate)) return "Start date must not be after end date";
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        return days <= MAX_RENTAL_DAYS ? null : "Reservation duration cannot exceed " + MAX_RENTAL_DAYS + " days";
     }
 }
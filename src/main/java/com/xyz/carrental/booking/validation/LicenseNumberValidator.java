@@ -3,15 +3,20 @@ package com.xyz.carrental.booking.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.util.regex.Pattern;
+
 /**
  * Validates the format of a driving license number.
  * <p>
  * Accepted format: 5-20 alphanumeric characters, including underscores or hyphens.
  */
 public class LicenseNumberValidator implements ConstraintValidator<ValidLicenseNumber, String> {
+    // Compiled once; String.matches would compile the pattern on every call
+    private static final Pattern LICENSE_NUMBER = Pattern.compile("^[A-Za-z0-9_-]{5,20}$");
+
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
         if (value == null) return false;
-        return value.matches("^[A-Za-z0-9_-]{5,20}$");
+        return LICENSE_NUMBER.matcher(value).matches();
     }
 }
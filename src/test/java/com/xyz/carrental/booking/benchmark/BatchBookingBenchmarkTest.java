@@ -0,0 +1,108 @@
+package com.xyz.carrental.booking.benchmark;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BatchBookingResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.service.BookingBatchService;
+import com.xyz.carrental.booking.service.BookingService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares 500 individual bookings with one batch of 500, against upstream stubs with a small fixed delay.
+ * <p>
+ * Caches are disabled so the comparison measures lookup deduplication and JDBC batching only.
+ * Run with: {@code mvn test -Pbenchmark -Dtest=BatchBookingBenchmarkTest}
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:batchbenchdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "external.driving-license.cache.enabled=false",
+        "external.pricing.cache.enabled=false",
+        "logging.level.com.xyz.carrental.booking=WARN"
+})
+class BatchBookingBenchmarkTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int DISTINCT_LICENSES = 50;
+    private static final int UPSTREAM_DELAY_MS = 5;
+
+    private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+
+    static {
+        wireMock.start();
+        wireMock.stubFor(post(urlEqualTo("/license/details"))
+                .willReturn(okJson("{\"licenseNumber\":\"DL123456789\",\"ownerName\":\"John Doe\",\"expiryDate\":\""
+                        + LocalDate.now().plusYears(5) + "\"}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+        wireMock.stubFor(post(urlEqualTo("/rental/rate"))
+                .willReturn(okJson("{\"category\":\"MEDIUM\",\"ratePerDay\":50.00}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+    }
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.driving-license.base-url", wireMock::baseUrl);
+        registry.add("external.pricing.base-url", wireMock::baseUrl);
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingBatchService bookingBatchService;
+
+    @Test
+    void batchVersusIndividualBookings() {
+        List<ConfirmBookingRequest> requests = requests();
+
+        // Warm-up
+        bookingBatchService.confirmBookings(requests.subList(0, 50));
+        requests.subList(0, 50).forEach(bookingService::confirmBooking);
+
+        long start = System.nanoTime();
+        requests.forEach(bookingService::confirmBooking);
+        long individualMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        BatchBookingResponse response = bookingBatchService.confirmBookings(requests);
+        long batchMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(BATCH_SIZE, response.confirmed());
+        System.out.printf("%n%d bookings, %d distinct licenses, upstream delay %dms%n", BATCH_SIZE, DISTINCT_LICENSES, UPSTREAM_DELAY_MS);
+        System.out.printf("individual: %6d ms%n", individualMs);
+        System.out.printf("batch:      %6d ms  (%.1fx)%n", batchMs, (double) individualMs / Math.max(batchMs, 1));
+    }
+
+    private static List<ConfirmBookingRequest> requests() {
+        List<ConfirmBookingRequest> requests = new ArrayList<>(BATCH_SIZE);
+        CarSegment[] segments = CarSegment.values();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(new ConfirmBookingRequest(
+                    String.format("DL%09d", i % DISTINCT_LICENSES), 30,
+                    LocalDate.now().plusDays(1 + i % 60), LocalDate.now().plusDays(3 + i % 60),
+                    segments[i % segments.length]));
+        }
+        return requests;
+    }
+}
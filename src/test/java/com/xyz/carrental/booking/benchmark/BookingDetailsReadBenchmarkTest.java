@@ -0,0 +1,106 @@
+package com.xyz.carrental.booking.benchmark;
+
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.service.BookingWriter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the entity read path (findById + BookingMapper) with the projection read path (findDetailsById),
+ * measuring throughput and bytes allocated per read on the calling thread.
+ * <p>
+ * The details cache is bypassed: both paths call the repository directly.
+ * Run with: {@code mvn test -Pbenchmark -Dtest=BookingDetailsReadBenchmarkTest}
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:readbenchdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "logging.level.com.xyz.carrental.booking=WARN"
+})
+class BookingDetailsReadBenchmarkTest {
+
+    private static final int BOOKINGS = 1_000;
+    private static final int READS = 200_000;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingWriter bookingWriter;
+
+    @Autowired
+    private BookingMapper bookingMapper;
+
+    @Test
+    void entityVersusProjectionReads() {
+        List<UUID> ids = insertBookings();
+        Function<UUID, BookingDetailsResponse> entityPath =
+                id -> bookingMapper.toResponse(bookingRepository.findById(id).orElseThrow());
+        Function<UUID, BookingDetailsResponse> projectionPath =
+                id -> bookingRepository.findDetailsById(id).orElseThrow();
+
+        assertEquals(entityPath.apply(ids.get(0)), projectionPath.apply(ids.get(0)));
+
+        // Warm-up
+        run(ids, entityPath, READS / 4);
+        run(ids, projectionPath, READS / 4);
+
+        Result entity = run(ids, entityPath, READS);
+        Result projection = run(ids, projectionPath, READS);
+        System.out.printf("%n%,d reads over %,d bookings%n", READS, BOOKINGS);
+        System.out.printf("entity + mapper: %,10.0f reads/s  %,8d bytes/read%n", entity.readsPerSecond(), entity.bytesPerRead());
+        System.out.printf("projection:      %,10.0f reads/s  %,8d bytes/read  (%.1fx throughput)%n",
+                projection.readsPerSecond(), projection.bytesPerRead(), projection.readsPerSecond() / entity.readsPerSecond());
+    }
+
+    private List<UUID> insertBookings() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        List<Booking> bookings = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(Booking.builder()
+                    .id(generator.nextId())
+                    .drivingLicenseNumber("DL123456789")
+                    .customerName("Customer " + i)
+                    .age(30)
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(3))
+                    .carSegment(CarSegment.values()[i % CarSegment.values().length])
+                    .rentalPrice(new BigDecimal("150.00"))
+                    .build());
+        }
+        return bookingWriter.saveAll(bookings).stream().map(Booking::getId).toList();
+    }
+
+    private static Result run(List<UUID> ids, Function<UUID, BookingDetailsResponse> read, int reads) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            read.apply(ids.get(i % ids.size()));
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        return new Result(reads * 1e9 / elapsed, allocated / reads);
+    }
+
+    private record Result(double readsPerSecond, long bytesPerRead) {}
+}
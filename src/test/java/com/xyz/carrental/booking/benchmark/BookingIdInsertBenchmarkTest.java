@@ -0,0 +1,81 @@
+package com.xyz.carrental.booking.benchmark;
+
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.id.RandomUuidGenerator;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Compares bulk inserts into a UUID-keyed table using random (v4) and time-ordered (v7) keys.
+ * <p>
+ * Random keys scatter inserts across the whole primary key index, so most inserts touch a different page;
+ * time-ordered keys append at the right-hand edge. The gap widens as the table grows.
+ * Run with: {@code mvn test -Pbenchmark -Dtest=BookingIdInsertBenchmarkTest -Dbench.rows=5000000}
+ */
+@Tag("benchmark")
+class BookingIdInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 2_000_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final int REPORT_EVERY = ROWS / 4;
+
+    @Test
+    void randomVersusTimeOrderedKeys() throws SQLException {
+        // Warm-up
+        insert("warmup_random", new RandomUuidGenerator(), 100_000);
+        insert("warmup_ordered", new TimeOrderedUuidGenerator(), 100_000);
+
+        System.out.printf("%n%,d rows, batches of %,d%n", ROWS, BATCH_SIZE);
+        long randomMs = insert("random", new RandomUuidGenerator(), ROWS);
+        long orderedMs = insert("time_ordered", new TimeOrderedUuidGenerator(), ROWS);
+        System.out.printf("random:       %6d ms%n", randomMs);
+        System.out.printf("time-ordered: %6d ms  (%.1fx)%n", orderedMs, (double) randomMs / Math.max(orderedMs, 1));
+    }
+
+    private static long insert(String name, BookingIdGenerator generator, int rows) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:idbench_" + name + ";MODE=PostgreSQL")) {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("""
+                        CREATE TABLE bookings (
+                            id UUID PRIMARY KEY,
+                            driving_license_number VARCHAR(255) NOT NULL,
+                            customer_name VARCHAR(255) NOT NULL,
+                            rental_price NUMERIC(19, 2) NOT NULL)""");
+            }
+            connection.setAutoCommit(false);
+
+            long start = System.nanoTime();
+            long sliceStart = start;
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO bookings (id, driving_license_number, customer_name, rental_price) VALUES (?, ?, ?, ?)")) {
+                for (int i = 1; i <= rows; i++) {
+                    insert.setObject(1, generator.nextId());
+                    insert.setString(2, "DL123456789");
+                    insert.setString(3, "John Doe");
+                    insert.setBigDecimal(4, BigDecimal.valueOf(250));
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                    if (rows == ROWS && REPORT_EVERY > 0 && i % REPORT_EVERY == 0) {
+                        long now = System.nanoTime();
+                        System.out.printf("  %-12s %,10d rows, last slice %6d ms%n", name, i, (now - sliceStart) / 1_000_000);
+                        sliceStart = now;
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            }
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+}
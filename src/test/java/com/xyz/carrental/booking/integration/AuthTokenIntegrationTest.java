@@ -0,0 +1,85 @@
+package com.xyz.carrental.booking.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that bearer tokens from {@code /auth/token} authenticate like the Basic Auth credentials they were
+ * issued for, and no further.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:authtokendb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"
+})
+@AutoConfigureMockMvc
+class AuthTokenIntegrationTest {
+
+    private static final String USER = "Basic dXNlcjp1c2VyMTIz";
+    private static final String ADMIN = "Basic YWRtaW46cGFzc3dvcmQxMjM=";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void tokenGrantsTheRolesOfItsUser() throws Exception {
+        String token = issueToken(USER);
+
+        mockMvc.perform(get("/api/v1/bookings").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/bookings/export").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminTokenReachesAdminEndpoints() throws Exception {
+        String token = issueToken(ADMIN);
+
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void invalidTokenIsUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings").header("Authorization", "Bearer forged.token"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer error=\"invalid_token\""));
+    }
+
+    @Test
+    void tokenCannotBeUsedToIssueAnotherToken() throws Exception {
+        String token = issueToken(USER);
+
+        mockMvc.perform(post("/auth/token").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordStillFailsAfterSuccessfulLogin() throws Exception {
+        issueToken(USER);
+
+        mockMvc.perform(get("/api/v1/bookings").header("Authorization", "Basic dXNlcjp3cm9uZw=="))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String issueToken(String basicAuth) throws Exception {
+        MvcResult result = mockMvc.perform(post("/auth/token").header("Authorization", basicAuth))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(900))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,121 @@
+package com.xyz.carrental.booking.integration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.service.BookingService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs many concurrent bookings against slow upstream stubs with a deliberately tiny connection pool.
+ * <p>
+ * The upstream delay is twice the pool's connection timeout. If the remote calls were inside the booking
+ * transaction, each request would hold a connection for the whole upstream delay: the pool would be fully
+ * borrowed while the lookups are in flight, connections would be held for longer than the delay, and most
+ * requests would time out waiting for the pool.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:pooltestdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+class BookingConnectionPoolIntegrationTest {
+
+    private static final int UPSTREAM_DELAY_MS = 500;
+    private static final int CONCURRENT_BOOKINGS = 20;
+
+    private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+
+    static {
+        wireMock.start();
+        wireMock.stubFor(post(urlEqualTo("/license/details"))
+                .willReturn(okJson("{\"licenseNumber\":\"DL123456789\",\"ownerName\":\"John Doe\",\"expiryDate\":\""
+                        + LocalDate.now().plusYears(5) + "\"}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+        wireMock.stubFor(post(urlEqualTo("/rental/rate"))
+                .willReturn(okJson("{\"category\":\"MEDIUM\",\"ratePerDay\":50.00}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+    }
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.driving-license.base-url", wireMock::baseUrl);
+        registry.add("external.pricing.base-url", wireMock::baseUrl);
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentBookingsWithSlowUpstreamDoNotExhaustPool() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_BOOKINGS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<UUID>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_BOOKINGS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookingService.confirmBooking(new ConfirmBookingRequest("DL123456789", 30,
+                            LocalDate.now().plusDays(1), LocalDate.now().plusDays(5), CarSegment.MEDIUM));
+                }));
+            }
+            start.countDown();
+
+            // Halfway through the upstream delay every request is waiting on a lookup
+            Thread.sleep(UPSTREAM_DELAY_MS / 2);
+            assertEquals(0, pool.getActiveConnections(), "connections borrowed during the remote lookups");
+            assertEquals(0, pool.getThreadsAwaitingConnection(), "threads waiting for a connection during the remote lookups");
+
+            for (Future<UUID> result : results) {
+                assertNotNull(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(bookingRepository.count() >= CONCURRENT_BOOKINGS);
+        double longestHoldMs = meterRegistry.get("hikaricp.connections.usage").timer().max(TimeUnit.MILLISECONDS);
+        assertTrue(longestHoldMs < UPSTREAM_DELAY_MS,
+                "a connection was held for " + longestHoldMs + "ms, as long as the upstream delay");
+    }
+}
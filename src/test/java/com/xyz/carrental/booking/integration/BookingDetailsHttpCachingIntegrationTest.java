@@ -0,0 +1,82 @@
+package com.xyz.carrental.booking.integration;
+
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies the ETag and Cache-Control headers on booking details, and that a matching
+ * {@code If-None-Match} is answered with 304 without calling the service.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class)
+@AutoConfigureMockMvc
+class BookingDetailsHttpCachingIntegrationTest {
+
+    private static final String AUTH = "Basic dXNlcjp1c2VyMTIz";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BookingService bookingService;
+
+    @Test
+    void detailsCarryStrongETagAndImmutableCacheControl() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(bookingService.getBookingDetails(eq(id), any())).thenReturn(details(id));
+
+        mockMvc.perform(get("/api/v1/bookings/{id}", id).header("Authorization", AUTH))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + id + "\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().string("Cache-Control", containsString("private")))
+                .andExpect(jsonPath("$.bookingId").value(id.toString()));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModifiedWithoutLoadingBooking() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        mockMvc.perform(get("/api/v1/bookings/{id}", id)
+                        .header("Authorization", AUTH)
+                        .header("If-None-Match", "\"" + id + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + id + "\""))
+                .andExpect(content().string(""));
+
+        verify(bookingService, never()).getBookingDetails(any(), any());
+    }
+
+    @Test
+    void staleIfNoneMatchReturnsFullResponse() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(bookingService.getBookingDetails(eq(id), any())).thenReturn(details(id));
+
+        mockMvc.perform(get("/api/v1/bookings/{id}", id)
+                        .header("Authorization", AUTH)
+                        .header("If-None-Match", "\"" + UUID.randomUUID() + "\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookingId").value(id.toString()));
+    }
+
+    private static BookingDetailsResponse details(UUID id) {
+        return new BookingDetailsResponse(id, "DL123456789", "John Doe", 30,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), CarSegment.MEDIUM, new BigDecimal("150.00"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.xyz.carrental.booking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.service.BookingWriter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Exports bookings from H2 as NDJSON and CSV, with a fetch size and flush interval smaller than the data set.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "booking.export.fetch-size=7",
+        "booking.export.flush-every=10"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingExportIntegrationTest {
+
+    private static final String ADMIN_AUTH = "Basic YWRtaW46cGFzc3dvcmQxMjM=";
+    private static final String USER_AUTH = "Basic dXNlcjp1c2VyMTIz";
+    private static final LocalDate BASE = LocalDate.of(2030, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingWriter bookingWriter;
+
+    @BeforeAll
+    void insertBookings() {
+        TimeOrderedUuidGenerator ids = new TimeOrderedUuidGenerator();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            bookings.add(Booking.builder()
+                    .id(ids.nextId())
+                    .drivingLicenseNumber("DL123456789")
+                    .customerName(i == 0 ? "Doe, \"Johnny\"" : "Customer " + i)
+                    .age(30)
+                    .startDate(BASE.plusDays(i))
+                    .endDate(BASE.plusDays(i + 1))
+                    .carSegment(i % 2 == 0 ? CarSegment.SMALL : CarSegment.MEDIUM)
+                    .rentalPrice(new BigDecimal("120.50"))
+                    .build());
+        }
+        bookingWriter.saveAll(bookings);
+    }
+
+    @Test
+    void exportsAllBookingsAsNdjson() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/bookings/export").header("Authorization", ADMIN_AUTH))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"bookings.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(40, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(BASE.toString(), first.get("startDate").asText());
+        assertEquals(120.50, first.get("rentalPrice").asDouble());
+    }
+
+    @Test
+    void exportsFilteredBookingsAsCsv() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/bookings/export")
+                        .param("format", "csv")
+                        .param("segment", "SMALL")
+                        .param("from", BASE.toString())
+                        .param("to", BASE.plusDays(9).toString())
+                        .header("Authorization", ADMIN_AUTH))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals("bookingId,drivingLicenseNumber,customerName,age,startDate,endDate,carSegment,rentalPrice", lines[0]);
+        assertEquals(6, lines.length);
+        assertTrue(lines[1].contains(",\"Doe, \"\"Johnny\"\"\",30," + BASE + ","));
+        assertTrue(lines[1].endsWith(",SMALL,120.50"));
+    }
+
+    @Test
+    void rejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/export").param("format", "xml").header("Authorization", ADMIN_AUTH))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format: xml"));
+    }
+
+    @Test
+    void exportIsRestrictedToAdmins() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/export").header("Authorization", USER_AUTH))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,140 @@
+package com.xyz.carrental.booking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.service.BookingWriter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pages through {@code GET /api/v1/bookings} against H2, checking filters, ordering and that the
+ * cursor visits every matching booking exactly once.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingSearchIntegrationTest {
+
+    private static final String AUTH = "Basic dXNlcjp1c2VyMTIz";
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingWriter bookingWriter;
+
+    @BeforeAll
+    void insertBookings() {
+        TimeOrderedUuidGenerator ids = new TimeOrderedUuidGenerator();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            // Three bookings per start date, so pages have to break ties on the ID
+            LocalDate start = BASE.plusDays(i / 3);
+            bookings.add(Booking.builder()
+                    .id(ids.nextId())
+                    .drivingLicenseNumber(i % 2 == 0 ? "DL111111111" : "DL222222222")
+                    .customerName("Customer " + i)
+                    .age(30)
+                    .startDate(start)
+                    .endDate(start.plusDays(2))
+                    .carSegment(i % 3 == 0 ? CarSegment.SMALL : CarSegment.LARGE)
+                    .rentalPrice(new BigDecimal("100.00"))
+                    .build());
+        }
+        bookingWriter.saveAll(bookings);
+    }
+
+    @Test
+    void cursorVisitsEveryMatchingBookingOnceInOrder() throws Exception {
+        List<JsonNode> all = fetchAll(() -> get("/api/v1/bookings").param("license", "DL111111111").param("limit", "4"));
+
+        assertEquals(23, all.size());
+        Set<String> ids = new HashSet<>();
+        LocalDate previous = LocalDate.MIN;
+        for (JsonNode booking : all) {
+            assertEquals("DL111111111", booking.get("drivingLicenseNumber").asText());
+            assertTrue(ids.add(booking.get("bookingId").asText()), "booking returned twice");
+            LocalDate start = LocalDate.parse(booking.get("startDate").asText());
+            assertFalse(start.isBefore(previous));
+            previous = start;
+        }
+    }
+
+    @Test
+    void filtersBySegmentAndStartDateRange() throws Exception {
+        List<JsonNode> all = fetchAll(() -> get("/api/v1/bookings")
+                .param("segment", "SMALL")
+                .param("from", BASE.plusDays(2).toString())
+                .param("to", BASE.plusDays(5).toString())
+                .param("limit", "2"));
+
+        assertEquals(4, all.size());
+        for (JsonNode booking : all) {
+            assertEquals("SMALL", booking.get("carSegment").asText());
+            LocalDate start = LocalDate.parse(booking.get("startDate").asText());
+            assertFalse(start.isBefore(BASE.plusDays(2)) || start.isAfter(BASE.plusDays(5)));
+        }
+    }
+
+    @Test
+    void lastPageHasNoCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings").param("license", "DL999999999").header("Authorization", AUTH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookings").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void invalidCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings").param("cursor", "not-a-cursor").header("Authorization", AUTH))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    private List<JsonNode> fetchAll(Supplier<MockHttpServletRequestBuilder> pageRequest) throws Exception {
+        List<JsonNode> bookings = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = pageRequest.get().header("Authorization", AUTH);
+            if (cursor != null) {
+                request = request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("bookings").forEach(bookings::add);
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return bookings;
+    }
+}
@@ -0,0 +1,161 @@
+package com.xyz.carrental.booking.integration;
+
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.BookingSearchCriteria;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.service.BookingWriter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks with H2's {@code EXPLAIN} that a page after the first is read with an index seek on {@code start_date},
+ * rather than by reading the index from its first entry and filtering out the rows of earlier pages.
+ * <p>
+ * The SQL generated for the keyset query is captured with a Hibernate {@link StatementInspector} and explained
+ * with the same parameter values.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchplandb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.xyz.carrental.booking.integration.BookingSearchPlanIntegrationTest$LastSelect"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingSearchPlanIntegrationTest {
+
+    private static final LocalDate BASE = LocalDate.of(2031, 1, 1);
+    private static final Pattern INDEX_CONDITION = Pattern.compile("/\\* PUBLIC\\.(IDX_\\w+)(?:: ([^*]*))? \\*/");
+    private static final Pattern COLUMN = Pattern.compile("\\.(\\w+)\\s*[<>=]+\\s*$");
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingWriter bookingWriter;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<Booking> bookings = new ArrayList<>();
+
+    @BeforeAll
+    void insertBookings() {
+        TimeOrderedUuidGenerator ids = new TimeOrderedUuidGenerator();
+        CarSegment[] segments = CarSegment.values();
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = BASE.plusDays(i / 10);
+            bookings.add(Booking.builder()
+                    .id(ids.nextId())
+                    .drivingLicenseNumber(String.format("DL%09d", i % 100))
+                    .customerName("Customer " + i)
+                    .age(30)
+                    .startDate(start)
+                    .endDate(start.plusDays(2))
+                    .carSegment(segments[i % segments.length])
+                    .rentalPrice(new BigDecimal("100.00"))
+                    .build());
+        }
+        bookingWriter.saveAll(bookings);
+    }
+
+    @Test
+    void deepPageSeeksStartDateIndex() throws Exception {
+        Booking last = bookings.get(1500);
+
+        String condition = explainedIndexCondition(new BookingSearchCriteria(null, null, null, null), last, "IDX_BOOKINGS_START");
+
+        assertTrue(condition.contains("START_DATE >="), "index is not seeked on start_date: " + condition);
+    }
+
+    @Test
+    void deepPageWithSegmentFilterSeeksSegmentIndex() throws Exception {
+        Booking last = bookings.get(1500);
+
+        String condition = explainedIndexCondition(new BookingSearchCriteria(null, null, null, last.getCarSegment()), last,
+                "IDX_BOOKINGS_SEGMENT_START");
+
+        assertTrue(condition.contains("CAR_SEGMENT ="), "index is not seeked on car_segment: " + condition);
+        assertTrue(condition.contains("START_DATE >="), "index is not seeked on start_date: " + condition);
+    }
+
+    /**
+     * Runs the keyset search for the page after {@code last}, explains the generated SQL and returns the conditions
+     * H2 uses to seek {@code expectedIndex}.
+     */
+    private String explainedIndexCondition(BookingSearchCriteria criteria, Booking last, String expectedIndex) throws Exception {
+        LastSelect.sql = null;
+        List<BookingDetailsResponse> page = bookingRepository.search(criteria, last.getStartDate(), last.getId(), 20);
+        assertFalse(page.isEmpty());
+        String sql = LastSelect.sql;
+        assertNotNull(sql);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            bindParameters(explain, sql, criteria, last);
+            try (ResultSet plan = explain.executeQuery()) {
+                assertTrue(plan.next());
+                String planSql = plan.getString(1).replace("\"", "");
+                Matcher matcher = INDEX_CONDITION.matcher(planSql);
+                assertTrue(matcher.find(), "no index used: " + planSql);
+                assertEquals(expectedIndex, matcher.group(1), planSql);
+                return matcher.group(2) == null ? "" : matcher.group(2);
+            }
+        }
+    }
+
+    /**
+     * Binds each {@code ?} by the column it is compared with; parameters without a column are the row limit.
+     */
+    private static void bindParameters(PreparedStatement statement, String sql, BookingSearchCriteria criteria,
+                                       Booking last) throws Exception {
+        int index = 0;
+        int from = 0;
+        for (int at = sql.indexOf('?'); at >= 0; at = sql.indexOf('?', at + 1)) {
+            Matcher column = COLUMN.matcher(sql.substring(from, at));
+            Object value = !column.find() ? 20 : switch (column.group(1)) {
+                case "car_segment" -> criteria.carSegment().name();
+                case "start_date" -> last.getStartDate();
+                case "id" -> last.getId();
+                case "driving_license_number" -> criteria.drivingLicenseNumber();
+                default -> throw new IllegalStateException("Unexpected parameter for " + column.group(1) + " in " + sql);
+            };
+            statement.setObject(++index, value);
+            from = at + 1;
+        }
+    }
+
+    /**
+     * Remembers the last keyset query sent to the database.
+     */
+    public static class LastSelect implements StatementInspector {
+        static volatile String sql;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select") && sql.contains("start_date") && sql.contains("order by")) {
+                LastSelect.sql = sql;
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.xyz.carrental.booking.integration;
+
+import com.xyz.carrental.booking.BookingServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that stage timers, cache meters and pool gauges are published on the Prometheus endpoint.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointIntegrationTest {
+
+    private static final String ADMIN_AUTH = "Basic YWRtaW46cGFzc3dvcmQxMjM=";
+    private static final String USER_AUTH = "Basic dXNlcjp1c2VyMTIz";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpointPublishesBookingMetrics() throws Exception {
+        // Unknown booking: still passes through the details stages
+        mockMvc.perform(get("/api/v1/bookings/{id}", UUID.randomUUID()).header("Authorization", USER_AUTH))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", ADMIN_AUTH))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("booking_stage_seconds_bucket{")))
+                .andExpect(content().string(containsString("operation=\"details\"")))
+                .andExpect(content().string(containsString("booking_cache_hits_total{")))
+                .andExpect(content().string(containsString("cache=\"booking_details\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    @Test
+    void prometheusEndpointRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", USER_AUTH))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
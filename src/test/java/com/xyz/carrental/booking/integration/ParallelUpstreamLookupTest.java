@@ -0,0 +1,147 @@
+package com.xyz.carrental.booking.integration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.cache.BookingDetailsCache;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.client.LicenseCache;
+import com.xyz.carrental.booking.client.SegmentRateCache;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.metrics.BookingMetrics;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.resilience.Bulkhead;
+import com.xyz.carrental.booking.resilience.CircuitBreaker;
+import com.xyz.carrental.booking.resilience.Hedger;
+import com.xyz.carrental.booking.resilience.UpstreamGuard;
+import com.xyz.carrental.booking.service.BookingServiceImpl;
+import com.xyz.carrental.booking.service.BookingWriter;
+import com.xyz.carrental.booking.service.RentalPriceCalculator;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies that the license and pricing lookups in {@code confirmBooking} run concurrently,
+ * using WireMock stubs with fixed delays for both upstream APIs.
+ */
+class ParallelUpstreamLookupTest {
+
+    private static final int LICENSE_DELAY_MS = 600;
+    private static final int PRICING_DELAY_MS = 400;
+
+    private WireMockServer wireMock;
+    private BookingServiceImpl bookingService;
+    private BookingWriter bookingWriter;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMock.start();
+
+        wireMock.stubFor(post(urlEqualTo("/rental/rate"))
+                .willReturn(okJson("{\"category\":\"MEDIUM\",\"ratePerDay\":50.00}")
+                        .withFixedDelay(PRICING_DELAY_MS)));
+
+        bookingWriter = mock(BookingWriter.class);
+        BookingMapper bookingMapper = mock(BookingMapper.class);
+        Booking booking = Booking.builder().id(UUID.randomUUID()).build();
+        when(bookingMapper.toBooking(any(), anyString(), any(), any())).thenReturn(booking);
+        when(bookingWriter.save(booking)).thenReturn(booking);
+
+        bookingService = new BookingServiceImpl(
+                new DrivingLicenseClient(WebClient.builder(), wireMock.baseUrl(),
+                        new LicenseCache(false, 0, Duration.ZERO, Duration.ZERO), Duration.ofSeconds(5), guard("license")),
+                new CarPricingClient(WebClient.builder(), wireMock.baseUrl(),
+                        new SegmentRateCache(false, Duration.ZERO, Duration.ZERO, Duration.ZERO, System::nanoTime),
+                        Duration.ofSeconds(5), guard("pricing")),
+                mock(BookingRepository.class),
+                bookingWriter,
+                bookingMapper,
+                new LicenseValidator(),
+                new RentalPriceCalculator(new PricingEngine(PricingRules.none(), LocalDate.now())),
+                new TimeOrderedUuidGenerator(),
+                new BookingDetailsCache(false, DataSize.ofMegabytes(1)),
+                new FleetAvailabilityIndex(Map.of()),
+                new BookingMetrics(new SimpleMeterRegistry()));
+
+        // Warm up connections and codecs so the timed call measures upstream latency only
+        stubLicense(LocalDate.now().plusYears(5), 0);
+        bookingService.confirmBooking(request());
+        wireMock.resetRequests();
+        clearInvocations(bookingWriter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    void confirmBooking_latencyIsCloseToSlowerUpstream() {
+        stubLicense(LocalDate.now().plusYears(5), LICENSE_DELAY_MS);
+
+        long start = System.nanoTime();
+        UUID bookingId = bookingService.confirmBooking(request());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(bookingId);
+        assertTrue(elapsedMs >= Math.max(LICENSE_DELAY_MS, PRICING_DELAY_MS),
+                "Booking returned before the slower upstream answered: " + elapsedMs + "ms");
+        assertTrue(elapsedMs < LICENSE_DELAY_MS + PRICING_DELAY_MS,
+                "Upstream calls ran sequentially: " + elapsedMs + "ms");
+        wireMock.verify(1, postRequestedFor(urlEqualTo("/license/details")));
+        wireMock.verify(1, postRequestedFor(urlEqualTo("/rental/rate")));
+    }
+
+    @Test
+    void confirmBooking_invalidLicenseStillRejected() {
+        // Expired license
+        stubLicense(LocalDate.now().minusDays(1), LICENSE_DELAY_MS);
+
+        assertThrows(BookingException.class, () -> bookingService.confirmBooking(request()));
+        verify(bookingWriter, never()).save(any());
+    }
+
+    private static UpstreamGuard guard(String name) {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(
+                50, 20, 50f, 100f, Duration.ofSeconds(5), Duration.ofSeconds(10), 5);
+        return new UpstreamGuard(name, new CircuitBreaker(name, settings, System::nanoTime), new Bulkhead(50),
+                new Hedger(Hedger.Settings.disabled(), System::nanoTime), System::nanoTime);
+    }
+
+    private void stubLicense(LocalDate expiryDate, int delayMs) {
+        wireMock.stubFor(post(urlEqualTo("/license/details"))
+                .willReturn(okJson("{\"licenseNumber\":\"DL123456789\",\"ownerName\":\"John Doe\",\"expiryDate\":\""
+                        + expiryDate + "\"}")
+                        .withFixedDelay(delayMs)));
+    }
+
+    private ConfirmBookingRequest request() {
+        return new ConfirmBookingRequest("DL123456789", 30,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(5), CarSegment.MEDIUM);
+    }
+}
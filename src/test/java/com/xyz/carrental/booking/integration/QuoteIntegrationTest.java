@@ -0,0 +1,153 @@
+package com.xyz.carrental.booking.integration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that quotes are priced from the cached segment rates, apply the booking date rules, and never call the
+ * Pricing API on the request thread.
+ * <p>
+ * Rates are preloaded at startup; SMALL has no stub until {@link #segmentWithFailedPreloadIsLoadedInTheBackground},
+ * so its preload fails and its first quote returns 503. With {@code external.pricing.cache.enabled=false} every quote
+ * would return 503, as quotes are answered from the rate cache only.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:quotedb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL"
+})
+@AutoConfigureMockMvc
+class QuoteIntegrationTest {
+
+    private static final String AUTH = "Basic dXNlcjp1c2VyMTIz";
+
+    private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+
+    static {
+        wireMock.start();
+        wireMock.stubFor(post(urlEqualTo("/rental/rate")).withRequestBody(containing("MEDIUM"))
+                .willReturn(okJson("{\"category\":\"MEDIUM\",\"ratePerDay\":50.00}")));
+        wireMock.stubFor(post(urlEqualTo("/rental/rate")).withRequestBody(containing("LARGE"))
+                .willReturn(okJson("{\"category\":\"LARGE\",\"ratePerDay\":80.00}")));
+    }
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.driving-license.base-url", wireMock::baseUrl);
+        registry.add("external.pricing.base-url", wireMock::baseUrl);
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void ratesArePreloadedAtStartup() throws Exception {
+        assertEquals(200, awaitQuote("LARGE"));
+        assertEquals(1, rateRequests("LARGE"));
+    }
+
+    @Test
+    void quotesAreServedFromTheCachedRate() throws Exception {
+        assertEquals(200, awaitQuote("MEDIUM"));
+        int requestsBefore = rateRequests("MEDIUM");
+
+        for (int i = 0; i < 100; i++) {
+            mockMvc.perform(quote("medium", "2026-11-07", "2026-11-09"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.carSegment").value("MEDIUM"))
+                    .andExpect(jsonPath("$.days").value(3))
+                    .andExpect(jsonPath("$.ratePerDay").value(50.00))
+                    .andExpect(jsonPath("$.totalPrice").value(150.00));
+        }
+
+        assertEquals(requestsBefore, rateRequests("MEDIUM"));
+    }
+
+    @Test
+    void segmentWithFailedPreloadIsLoadedInTheBackground() throws Exception {
+        mockMvc.perform(quote("SMALL", "2026-11-07", "2026-11-07"))
+                .andExpect(status().isServiceUnavailable());
+
+        wireMock.stubFor(post(urlEqualTo("/rental/rate")).withRequestBody(containing("SMALL"))
+                .willReturn(okJson("{\"category\":\"SMALL\",\"ratePerDay\":30.00}")));
+
+        assertEquals(200, awaitQuote("SMALL"));
+    }
+
+    @Test
+    void bookingDateRulesApply() throws Exception {
+        mockMvc.perform(get("/api/v1/quotes")
+                        .param("segment", "MEDIUM")
+                        .param("start", "2026-11-01")
+                        .param("end", "2026-12-15")
+                        .header("Authorization", AUTH))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Reservation duration cannot exceed 30 days"));
+
+        mockMvc.perform(get("/api/v1/quotes")
+                        .param("segment", "MEDIUM")
+                        .param("start", "2026-11-09")
+                        .param("end", "2026-11-07")
+                        .header("Authorization", AUTH))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Start date must not be after end date"));
+
+        mockMvc.perform(get("/api/v1/quotes")
+                        .param("segment", "VAN")
+                        .param("start", "2026-11-07")
+                        .param("end", "2026-11-09")
+                        .header("Authorization", AUTH))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void quotesRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/v1/quotes").param("segment", "MEDIUM"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * Polls a one-day quote for the segment until it succeeds, for up to five seconds, and returns the last status.
+     */
+    private int awaitQuote(String segment) throws Exception {
+        int status = 0;
+        for (int attempt = 0; attempt < 50 && status != 200; attempt++) {
+            status = mockMvc.perform(quote(segment, "2026-11-07", "2026-11-07")).andReturn().getResponse().getStatus();
+            if (status != 200) {
+                Thread.sleep(100);
+            }
+        }
+        return status;
+    }
+
+    private static MockHttpServletRequestBuilder quote(String segment, String start, String end) {
+        return get("/api/v1/quotes")
+                .param("segment", segment)
+                .param("start", start)
+                .param("end", end)
+                .header("Authorization", AUTH);
+    }
+
+    private static int rateRequests(String segment) {
+        return wireMock.countRequestsMatching(postRequestedFor(urlEqualTo("/rental/rate"))
+                .withRequestBody(containing("\"" + segment + "\"")).build()).getCount();
+    }
+}
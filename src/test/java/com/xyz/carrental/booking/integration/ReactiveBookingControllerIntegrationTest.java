@@ -0,0 +1,100 @@
+package com.xyz.carrental.booking.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * End-to-end test of the reactive booking endpoint: WireMock upstreams, R2DBC persistence on H2.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class)
+@AutoConfigureMockMvc
+class ReactiveBookingControllerIntegrationTest {
+
+    private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+
+    static {
+        wireMock.start();
+        wireMock.stubFor(com.github.tomakehurst.wiremock.client.WireMock.post(urlEqualTo("/license/details"))
+                .willReturn(okJson("{\"licenseNumber\":\"DL987654321\",\"ownerName\":\"Jane Roe\",\"expiryDate\":\""
+                        + LocalDate.now().plusYears(5) + "\"}")));
+        wireMock.stubFor(com.github.tomakehurst.wiremock.client.WireMock.post(urlEqualTo("/rental/rate"))
+                .willReturn(okJson("{\"category\":\"LARGE\",\"ratePerDay\":80.00}")));
+    }
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.driving-license.base-url", wireMock::baseUrl);
+        registry.add("external.pricing.base-url", wireMock::baseUrl);
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void confirmAndRetrieveBooking() throws Exception {
+        String requestJson = """
+            {
+                "drivingLicenseNumber":"DL987654321",
+                "age":40,
+                "startDate":"2025-11-07",
+                "endDate":"2025-11-09",
+                "carSegment":"LARGE"
+            }
+        """;
+
+        MvcResult created = mockMvc.perform(post("/api/v1/reactive/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson)
+                        .header("Authorization", "Basic dXNlcjp1c2VyMTIz"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult confirmed = mockMvc.perform(asyncDispatch(created))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookingId").exists())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(confirmed.getResponse().getContentAsString());
+        String bookingId = body.get("bookingId").asText();
+
+        MvcResult fetched = mockMvc.perform(get("/api/v1/reactive/bookings/{id}", bookingId)
+                        .header("Authorization", "Basic dXNlcjp1c2VyMTIz"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(fetched))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookingId").value(bookingId))
+                .andExpect(jsonPath("$.customerName").value("Jane Roe"))
+                .andExpect(jsonPath("$.carSegment").value("LARGE"))
+                .andExpect(jsonPath("$.rentalPrice").value(240.00));
+    }
+}
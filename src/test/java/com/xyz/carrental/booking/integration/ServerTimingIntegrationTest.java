@@ -0,0 +1,106 @@
+package com.xyz.carrental.booking.integration;
+
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.service.BookingService;
+import com.xyz.carrental.booking.timing.StageTimings;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that requests asking for {@code X-Server-Timing} get a {@code Server-Timing} header with the stages
+ * recorded by the service, and that other requests are left untouched when random sampling is off.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:servertimingdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "booking.server-timing.enabled=true",
+        "booking.server-timing.sample-rate=0"
+})
+@AutoConfigureMockMvc
+class ServerTimingIntegrationTest {
+
+    private static final String AUTH = "Basic dXNlcjp1c2VyMTIz";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BookingService bookingService;
+
+    @Test
+    void requestedTimingsIncludeServiceStagesAndSerialization() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(bookingService.getBookingDetails(eq(id), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, StageTimings.class).add(StageTimings.Metric.DB, 2_000_000);
+            return details(id);
+        });
+
+        mockMvc.perform(get("/api/v1/bookings/{id}", id)
+                        .header("Authorization", AUTH)
+                        .header("X-Server-Timing", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("db;dur=2.0"),
+                        containsString("serialize;dur="),
+                        containsString("total;dur="))))
+                .andExpect(jsonPath("$.bookingId").value(id.toString()));
+    }
+
+    @Test
+    void confirmationTimingsAreReportedWithTheCreatedResponse() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(bookingService.confirmBooking(any(), any())).thenAnswer(invocation -> {
+            StageTimings timings = invocation.getArgument(1, StageTimings.class);
+            timings.add(StageTimings.Metric.LICENSE, 5_000_000);
+            timings.add(StageTimings.Metric.PRICING, 3_000_000);
+            return id;
+        });
+
+        mockMvc.perform(post("/api/v1/bookings")
+                        .header("Authorization", AUTH)
+                        .header("X-Server-Timing", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"drivingLicenseNumber":"DL123456789","age":30,"startDate":"%s","endDate":"%s","carSegment":"MEDIUM"}
+                                """.formatted(LocalDate.now().plusDays(1), LocalDate.now().plusDays(3))))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Server-Timing", allOf(
+                        containsString("license;dur=5.0"),
+                        containsString("pricing;dur=3.0"))))
+                .andExpect(jsonPath("$.bookingId").value(id.toString()));
+    }
+
+    @Test
+    void requestsThatAreNotSampledGetNoHeader() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(bookingService.getBookingDetails(eq(id), any())).thenReturn(details(id));
+
+        mockMvc.perform(get("/api/v1/bookings/{id}", id).header("Authorization", AUTH))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+
+        verify(bookingService).getBookingDetails(eq(id), same(StageTimings.NONE));
+    }
+
+    private static BookingDetailsResponse details(UUID id) {
+        return new BookingDetailsResponse(id, "DL123456789", "John Doe", 30,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), CarSegment.MEDIUM, new BigDecimal("150.00"));
+    }
+}
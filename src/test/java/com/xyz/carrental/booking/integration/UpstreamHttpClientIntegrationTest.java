@@ -0,0 +1,105 @@
+package com.xyz.carrental.booking.integration;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.exception.UpstreamFailureException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that a slow upstream makes calls fail fast: per-call deadlines, and a bounded queue of requests
+ * waiting for a pooled connection.
+ */
+@SpringBootTest(classes = BookingServiceApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:upstreamhttpdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "external.driving-license.cache.enabled=false",
+        "external.pricing.cache.enabled=false",
+        "external.driving-license.timeout=300ms",
+        "external.pricing.timeout=5s",
+        "external.http.response-timeout=5s",
+        "external.http.max-connections=2",
+        "external.http.pending-acquire-max-count=2",
+        "external.http.pending-acquire-timeout=5s"
+})
+class UpstreamHttpClientIntegrationTest {
+
+    private static final int UPSTREAM_DELAY_MS = 1000;
+
+    private static final WireMockServer wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+
+    static {
+        wireMock.start();
+        wireMock.stubFor(post(urlEqualTo("/license/details"))
+                .willReturn(okJson("{\"licenseNumber\":\"DL123456789\",\"ownerName\":\"John Doe\",\"expiryDate\":\""
+                        + LocalDate.now().plusYears(5) + "\"}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+        wireMock.stubFor(post(urlEqualTo("/rental/rate"))
+                .willReturn(okJson("{\"category\":\"MEDIUM\",\"ratePerDay\":50.00}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+    }
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.driving-license.base-url", wireMock::baseUrl);
+        registry.add("external.pricing.base-url", wireMock::baseUrl);
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @Autowired
+    private DrivingLicenseClient drivingLicenseClient;
+
+    @Autowired
+    private CarPricingClient carPricingClient;
+
+    @Test
+    void slowUpstreamFailsAtTheCallDeadline() {
+        long start = System.nanoTime();
+        // A timeout is an upstream failure, which the asynchronous intake retries
+        UpstreamFailureException ex = assertThrows(UpstreamFailureException.class,
+                () -> drivingLicenseClient.getLicenseDetails("DL123456789"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("Driving License API timed out", ex.getMessage());
+        assertTrue(elapsedMs < UPSTREAM_DELAY_MS, "Call waited for the slow upstream: " + elapsedMs + "ms");
+    }
+
+    @Test
+    void requestsBeyondThePendingAcquireLimitAreRejectedImmediately() {
+        int calls = 8;
+        long start = System.nanoTime();
+        List<Long> rejectedAfterMs = Flux.range(0, calls)
+                .flatMap(i -> carPricingClient.getRateForCategoryAsync("MEDIUM")
+                        .map(rate -> -1L)
+                        .onErrorResume(BookingException.class,
+                                ex -> Mono.just((System.nanoTime() - start) / 1_000_000)), calls)
+                .filter(elapsedMs -> elapsedMs >= 0)
+                .collectList()
+                .block();
+
+        // 2 connections in use and 2 requests waiting for them; the others must not queue
+        assertNotNull(rejectedAfterMs);
+        assertEquals(calls - 4, rejectedAfterMs.size(), "Rejected calls: " + rejectedAfterMs);
+        rejectedAfterMs.forEach(elapsedMs -> assertTrue(elapsedMs < UPSTREAM_DELAY_MS,
+                "Rejected call waited for a connection: " + elapsedMs + "ms"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.security.AuthTokenService;
+import com.xyz.carrental.booking.security.CachingAuthenticationProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationFastPathTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final AtomicInteger passwordChecks = new AtomicInteger();
+
+    // Counts the expensive password comparisons; BCrypt itself is irrelevant here
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            passwordChecks.incrementAndGet();
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    private final InMemoryUserDetailsManager users = new InMemoryUserDetailsManager(user().build());
+
+    private final CachingAuthenticationProvider caching =
+            new CachingAuthenticationProvider(passwordEncoder, users, 100, Duration.ofMinutes(1));
+
+    @Test
+    void repeatedCredentialsSkipThePasswordCheck() {
+        caching.authenticate(credentials("user", "user123"));
+        Authentication cached = caching.authenticate(credentials("user", "user123"));
+
+        assertTrue(cached.isAuthenticated());
+        assertEquals("user", cached.getName());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER"), List.copyOf(cached.getAuthorities()));
+        assertEquals(1, passwordChecks.get());
+        assertEquals(1, caching.stats().hits());
+    }
+
+    @Test
+    void wrongPasswordIsNeverCached() {
+        caching.authenticate(credentials("user", "user123"));
+
+        assertThrows(BadCredentialsException.class, () -> caching.authenticate(credentials("user", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> caching.authenticate(credentials("user", "wrong")));
+        assertEquals(3, passwordChecks.get());
+    }
+
+    @Test
+    void usernameAndPasswordCannotBeShiftedAcrossTheSeparator() {
+        users.createUser(User.withUsername("useru").password(passwordEncoder.encode("ser123")).roles("USER").build());
+        caching.authenticate(credentials("user", "user123"));
+
+        caching.authenticate(credentials("useru", "ser123"));
+        assertEquals(2, passwordChecks.get());
+    }
+
+    @Test
+    void disabledOrLockedAccountIsRejectedDespiteACachedPassword() {
+        caching.authenticate(credentials("user", "user123"));
+
+        users.updateUser(user().disabled(true).build());
+        assertThrows(DisabledException.class, () -> caching.authenticate(credentials("user", "user123")));
+
+        users.updateUser(user().accountLocked(true).build());
+        assertThrows(LockedException.class, () -> caching.authenticate(credentials("user", "user123")));
+    }
+
+    @Test
+    void changedRoleTakesEffectDespiteACachedPassword() {
+        caching.authenticate(credentials("user", "user123"));
+
+        users.updateUser(user().roles("ADMIN").build());
+        Authentication cached = caching.authenticate(credentials("user", "user123"));
+
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_ADMIN"), List.copyOf(cached.getAuthorities()));
+        assertEquals(1, passwordChecks.get());
+    }
+
+    @Test
+    void changedPasswordDoesNotMatchTheCachedEntry() {
+        caching.authenticate(credentials("user", "user123"));
+
+        users.updateUser(user().password(passwordEncoder.encode("changed")).build());
+
+        assertThrows(BadCredentialsException.class, () -> caching.authenticate(credentials("user", "user123")));
+        assertEquals(2, passwordChecks.get());
+    }
+
+    @Test
+    void removedUserIsRejectedDespiteACachedPassword() {
+        caching.authenticate(credentials("user", "user123"));
+
+        users.deleteUser("user");
+
+        assertThrows(BadCredentialsException.class, () -> caching.authenticate(credentials("user", "user123")));
+    }
+
+    @Test
+    void issuedTokenVerifiesWithTheSameAuthorities() {
+        AuthTokenService tokens = new AuthTokenService(SECRET, Duration.ofMinutes(15), Clock.systemUTC());
+        String token = tokens.issue(authenticated()).token();
+
+        Authentication verified = tokens.verify(token);
+
+        assertNotNull(verified);
+        assertEquals("user", verified.getName());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_USER"), verified.getAuthorities());
+    }
+
+    @Test
+    void tamperedOrForeignTokensAreRejected() {
+        AuthTokenService tokens = new AuthTokenService(SECRET, Duration.ofMinutes(15), Clock.systemUTC());
+        String token = tokens.issue(authenticated()).token();
+        String payload = token.substring(0, token.indexOf('.'));
+        String signature = token.substring(token.indexOf('.'));
+        String admin = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(payload)).replace("ROLE_USER", "ROLE_ADMIN").getBytes());
+
+        assertNull(tokens.verify(admin + signature));
+        assertNull(tokens.verify(token + "x"));
+        assertNull(tokens.verify("not-a-token"));
+        assertNull(new AuthTokenService("", Duration.ofMinutes(15)).verify(token));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        Instant issuedAt = Instant.parse("2025-01-01T10:00:00Z");
+        String token = new AuthTokenService(SECRET, Duration.ofMinutes(15), Clock.fixed(issuedAt, ZoneOffset.UTC))
+                .issue(authenticated()).token();
+
+        Clock later = Clock.fixed(issuedAt.plus(Duration.ofMinutes(15)), ZoneOffset.UTC);
+        assertNull(new AuthTokenService(SECRET, Duration.ofMinutes(15), later).verify(token));
+    }
+
+    private static Authentication credentials(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+
+    private User.UserBuilder user() {
+        return User.withUsername("user").password(passwordEncoder.encode("user123")).roles("USER");
+    }
+
+    private static Authentication authenticated() {
+        return UsernamePasswordAuthenticationToken.authenticated("user", null,
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+}
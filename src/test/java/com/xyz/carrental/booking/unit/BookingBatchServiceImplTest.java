@@ -0,0 +1,166 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BatchBookingItemResult;
+import com.xyz.carrental.booking.dto.BatchBookingResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.exception.BookingValidationException;
+import com.xyz.carrental.booking.exception.LicenseNotFoundException;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import com.xyz.carrental.booking.service.BookingBatchServiceImpl;
+import com.xyz.carrental.booking.service.BookingWriter;
+import com.xyz.carrental.booking.service.RentalPriceCalculator;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BookingBatchServiceImplTest {
+
+    private DrivingLicenseClient drivingLicenseClient;
+    private CarPricingClient carPricingClient;
+    private BookingWriter bookingWriter;
+    private BookingBatchServiceImpl batchService;
+
+    @BeforeEach
+    void setUp() {
+        drivingLicenseClient = mock(DrivingLicenseClient.class);
+        carPricingClient = mock(CarPricingClient.class);
+        bookingWriter = mock(BookingWriter.class);
+        BookingMapper bookingMapper = mock(BookingMapper.class);
+
+        when(drivingLicenseClient.getLicenseDetailsAsync(anyString())).thenAnswer(inv -> Mono.just(license(inv.getArgument(0))));
+        when(drivingLicenseClient.getLicenseDetailsAsync("DL000000000"))
+                .thenReturn(Mono.error(new LicenseNotFoundException("Driving license not found: DL000000000")));
+        when(carPricingClient.getRateForCategoryAsync(anyString()))
+                .thenAnswer(inv -> Mono.just(new RateResponse(inv.getArgument(0), BigDecimal.valueOf(50))));
+        when(bookingMapper.toBooking(any(), anyString(), any(), any(UUID.class)))
+                .thenAnswer(inv -> Booking.builder().id(inv.getArgument(3))
+                        .drivingLicenseNumber(((ConfirmBookingRequest) inv.getArgument(0)).drivingLicenseNumber()).build());
+        when(bookingWriter.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        batchService = new BookingBatchServiceImpl(drivingLicenseClient, carPricingClient, bookingWriter, bookingMapper,
+                new LicenseValidator(), new RentalPriceCalculator(new PricingEngine(PricingRules.none(), LocalDate.now())),
+                new TimeOrderedUuidGenerator(),
+                new FleetAvailabilityIndex(Map.of(CarSegment.LARGE, 1)),
+                Validation.buildDefaultValidatorFactory().getValidator(), 500, 16);
+    }
+
+    @Test
+    void confirmBookings_deduplicatesLookupsAndSavesOnce() {
+        List<ConfirmBookingRequest> requests = List.of(
+                request("DL123456789", CarSegment.MEDIUM),
+                request("DL123456789", CarSegment.MEDIUM),
+                request("DL987654321", CarSegment.MEDIUM),
+                request("DL987654321", CarSegment.SMALL));
+
+        BatchBookingResponse response = batchService.confirmBookings(requests);
+
+        assertEquals(4, response.confirmed());
+        assertEquals(0, response.failed());
+        verify(drivingLicenseClient, times(1)).getLicenseDetailsAsync("DL123456789");
+        verify(drivingLicenseClient, times(1)).getLicenseDetailsAsync("DL987654321");
+        verify(carPricingClient, times(1)).getRateForCategoryAsync("MEDIUM");
+        verify(carPricingClient, times(1)).getRateForCategoryAsync("SMALL");
+        verify(bookingWriter, times(1)).saveAll(argThat(list -> list.size() == 4));
+    }
+
+    @Test
+    void confirmBookings_reportsFailuresPerItem() {
+        ConfirmBookingRequest underage = new ConfirmBookingRequest("DL123456789", 17,
+                LocalDate.now().plusDays(1), LocalDate.now().plusDays(2), CarSegment.SMALL);
+        List<ConfirmBookingRequest> requests = List.of(
+                request("DL123456789", CarSegment.SMALL),
+                underage,
+                request("DL000000000", CarSegment.SMALL));
+
+        BatchBookingResponse response = batchService.confirmBookings(requests);
+
+        assertEquals(1, response.confirmed());
+        assertEquals(2, response.failed());
+        assertEquals(BatchBookingItemResult.Status.CONFIRMED, response.results().get(0).status());
+        assertNotNull(response.results().get(0).bookingId());
+        assertEquals("Customer must be at least 18 years old", response.results().get(1).error());
+        assertEquals("Driving license not found: DL000000000", response.results().get(2).error());
+        verify(bookingWriter).saveAll(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    void confirmBookings_reportsFullyBookedSegmentPerItem() {
+        List<ConfirmBookingRequest> requests = List.of(
+                request("DL123456789", CarSegment.LARGE),
+                request("DL987654321", CarSegment.LARGE));
+
+        BatchBookingResponse response = batchService.confirmBookings(requests);
+
+        assertEquals(1, response.confirmed());
+        assertEquals(BatchBookingItemResult.Status.FAILED, response.results().get(1).status());
+        assertTrue(response.results().get(1).error().startsWith("No LARGE cars available"));
+        verify(bookingWriter).saveAll(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    void confirmBookings_reportsOnlyTheRowThatFailsToSave() {
+        List<ConfirmBookingRequest> requests = List.of(
+                request("DL123456789", CarSegment.SMALL),
+                request("DL987654321", CarSegment.SMALL),
+                request("DL111111111", CarSegment.SMALL),
+                request("DL222222222", CarSegment.LARGE),
+                request("DL333333333", CarSegment.SMALL));
+        when(bookingWriter.saveAll(anyList())).thenAnswer(inv -> {
+            List<Booking> bookings = inv.getArgument(0);
+            if (bookings.stream().anyMatch(b -> "DL222222222".equals(b.getDrivingLicenseNumber()))) {
+                throw new DataIntegrityViolationException("value too long for column");
+            }
+            return bookings;
+        });
+
+        BatchBookingResponse response = batchService.confirmBookings(requests);
+
+        assertEquals(4, response.confirmed());
+        assertEquals(1, response.failed());
+        assertEquals(BatchBookingItemResult.Status.FAILED, response.results().get(3).status());
+        assertEquals("Failed to save booking", response.results().get(3).error());
+        // The LARGE car of the failed booking is available again
+        assertEquals(BatchBookingItemResult.Status.CONFIRMED,
+                batchService.confirmBookings(List.of(request("DL444444444", CarSegment.LARGE))).results().get(0).status());
+    }
+
+    @Test
+    void confirmBookings_rejectsOversizedBatch() {
+        List<ConfirmBookingRequest> requests = Collections.nCopies(501, request("DL123456789", CarSegment.SMALL));
+
+        assertThrows(BookingValidationException.class, () -> batchService.confirmBookings(requests));
+        verifyNoInteractions(bookingWriter);
+    }
+
+    private static ConfirmBookingRequest request(String licenseNumber, CarSegment segment) {
+        return new ConfirmBookingRequest(licenseNumber, 30, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), segment);
+    }
+
+    private static LicenseResponse license(String licenseNumber) {
+        return new LicenseResponse(licenseNumber, "John Doe", LocalDate.now().minusYears(3), LocalDate.now().plusYears(7));
+    }
+}
@@ -0,0 +1,319 @@
+package com.xyz.carrental.booking.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingStatusResponse;
+import com.xyz.carrental.booking.dto.BookingStatusResponse.Status;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.exception.IntakeRejectedException;
+import com.xyz.carrental.booking.exception.UpstreamFailureException;
+import com.xyz.carrental.booking.exception.UpstreamUnavailableException;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.intake.BookingIntake;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.service.BookingService;
+import com.xyz.carrental.booking.timing.StageTimings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BookingIntakeTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @TempDir
+    Path tempDir;
+
+    private BookingIntake intake;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (intake != null && intake.isRunning()) {
+            intake.stop();
+        }
+    }
+
+    @Test
+    void queuedBookingIsConfirmedUnderItsId() {
+        intake = start(10, Duration.ofSeconds(5));
+
+        UUID bookingId = intake.submit(request());
+
+        awaitStatus(bookingId, Status.CONFIRMED);
+        verify(bookingService).confirmBooking(any(ConfirmBookingRequest.class), eq(bookingId), any(StageTimings.class));
+        assertEquals(1, intake.stats().accepted());
+        assertEquals(1, intake.stats().confirmed());
+        assertEquals(1, intake.stats().waitCount());
+    }
+
+    @Test
+    void bookingIsRetriedWhileTheCircuitBreakerIsOpen() {
+        when(bookingService.confirmBooking(any(), any(), any()))
+                .thenThrow(breakerOpen())
+                .thenThrow(breakerOpen())
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        intake = start(10, Duration.ofSeconds(5));
+
+        UUID bookingId = intake.submit(request());
+
+        awaitStatus(bookingId, Status.CONFIRMED);
+        verify(bookingService, times(3)).confirmBooking(any(), eq(bookingId), any());
+        assertEquals(2, intake.stats().retried());
+        assertEquals(0, intake.stats().failed());
+    }
+
+    @Test
+    void bookingIsRetriedAfterALicenseApiTimeout() {
+        when(bookingService.confirmBooking(any(), any(), any()))
+                .thenThrow(new UpstreamFailureException("Driving License API timed out"))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        intake = start(10, Duration.ofSeconds(5));
+
+        UUID bookingId = intake.submit(request());
+
+        awaitStatus(bookingId, Status.CONFIRMED);
+        verify(bookingService, times(2)).confirmBooking(any(), eq(bookingId), any());
+        assertEquals(1, intake.stats().retried());
+        assertEquals(0, intake.stats().failed());
+    }
+
+    @Test
+    void bookingFailsOnceTheCircuitBreakerStaysOpenForAllAttempts() {
+        when(bookingService.confirmBooking(any(), any(), any())).thenThrow(breakerOpen());
+        intake = start(10, Duration.ofSeconds(5));
+
+        UUID bookingId = intake.submit(request());
+
+        BookingStatusResponse status = awaitStatus(bookingId, Status.FAILED);
+        assertTrue(status.message().contains("circuit breaker is open"));
+        verify(bookingService, times(MAX_ATTEMPTS)).confirmBooking(any(), eq(bookingId), any());
+        assertEquals(MAX_ATTEMPTS - 1, intake.stats().retried());
+    }
+
+    @Test
+    void bookingBackingOffAtShutdownIsSpilled() throws Exception {
+        when(bookingService.confirmBooking(any(), any(), any())).thenThrow(breakerOpen());
+        intake = start(10, Duration.ofSeconds(5), Duration.ofMinutes(1));
+        UUID bookingId = intake.submit(request());
+        awaitStatus(bookingId, Status.QUEUED);
+        while (intake.stats().retried() == 0) {
+            sleep(10);
+        }
+
+        intake.stop();
+
+        assertEquals(Set.of(bookingId), spilledIds());
+        assertEquals(0, intake.stats().failed());
+    }
+
+    @Test
+    void rejectedBookingIsReportedAsFailed() {
+        when(bookingService.confirmBooking(any(), any(), any())).thenThrow(new BookingException("Driving license is expired"));
+        intake = start(10, Duration.ofSeconds(5));
+
+        UUID bookingId = intake.submit(request());
+
+        BookingStatusResponse status = awaitStatus(bookingId, Status.FAILED);
+        assertEquals("Driving license is expired", status.message());
+        assertEquals(1, intake.stats().failed());
+        assertEquals(0, intake.stats().retried());
+        verify(bookingService, times(1)).confirmBooking(any(), eq(bookingId), any());
+    }
+
+    @Test
+    void fullQueueRejectsWithoutWaiting() {
+        blockWorkers();
+        intake = start(1, Duration.ofSeconds(5));
+
+        UUID inProgress = intake.submit(request());
+        awaitStatus(inProgress, Status.PROCESSING);
+        UUID queued = intake.submit(request());
+
+        assertThrows(IntakeRejectedException.class, () -> intake.submit(request()));
+        assertEquals(0, intake.remainingCapacity());
+        assertEquals(1, intake.stats().rejectedQueueFull());
+        assertEquals(Status.QUEUED, intake.status(queued).status());
+    }
+
+    @Test
+    void stoppedIntakeRejectsNewBookings() {
+        intake = start(10, Duration.ofSeconds(5));
+        intake.stop();
+
+        assertThrows(IntakeRejectedException.class, () -> intake.submit(request()));
+        assertEquals(1, intake.stats().rejectedShuttingDown());
+    }
+
+    @Test
+    void bookingsLeftAtShutdownAreReplayedOnNextStart() throws Exception {
+        blockWorkers();
+        intake = start(10, Duration.ofMillis(100));
+        UUID inProgress = intake.submit(request());
+        awaitStatus(inProgress, Status.PROCESSING);
+        UUID queued = intake.submit(request());
+
+        // The queue does not drain in time: the busy worker is interrupted and defers its booking
+        intake.stop();
+
+        assertEquals(Set.of(inProgress, queued), spilledIds());
+        verify(bookingService, never()).confirmBooking(any(), eq(queued), any());
+
+        release.countDown();
+        intake = start(10, Duration.ofSeconds(5));
+
+        awaitStatus(queued, Status.CONFIRMED);
+        awaitStatus(inProgress, Status.CONFIRMED);
+        assertFalse(Files.exists(spillFile()));
+    }
+
+    @Test
+    void workerThatIgnoresInterruptsDoesNotLoseItsBooking() throws Exception {
+        AtomicBoolean upstreamDown = new AtomicBoolean(true);
+        when(bookingService.confirmBooking(any(), any(), any())).thenAnswer(invocation -> {
+            // Like a call that cannot be interrupted: wait for release, then fail as the upstream went away
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // keep waiting
+                }
+            }
+            if (upstreamDown.get()) {
+                throw new UpstreamFailureException("Driving License API timed out");
+            }
+            return invocation.getArgument(1);
+        });
+        intake = start(10, Duration.ofMillis(100));
+        UUID bookingId = intake.submit(request());
+        awaitStatus(bookingId, Status.PROCESSING);
+
+        intake.stop();
+
+        // Spilled while still in progress, then appended again when the worker deferred it after the spill
+        assertEquals(Set.of(bookingId), spilledIds());
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Files.readAllLines(spillFile()).size() < 2 && System.nanoTime() < deadline) {
+            sleep(10);
+        }
+        assertEquals(2, Files.readAllLines(spillFile()).size());
+
+        upstreamDown.set(false);
+        intake = start(10, Duration.ofSeconds(5));
+
+        awaitStatus(bookingId, Status.CONFIRMED);
+        // Once before the shutdown, once on replay: the duplicate line is skipped
+        verify(bookingService, times(2)).confirmBooking(any(), eq(bookingId), any());
+    }
+
+    @Test
+    void replayedBookingAlreadySavedIsNotConfirmedTwice() throws Exception {
+        UUID bookingId = UUID.randomUUID();
+        Files.writeString(spillFile(), "{\"bookingId\":\"" + bookingId + "\",\"request\":"
+                + objectMapper.writeValueAsString(request()) + ",\"acceptedAt\":\"2026-01-01T00:00:00Z\",\"replayed\":false}\n");
+        when(bookingRepository.existsById(bookingId)).thenReturn(true);
+
+        intake = start(10, Duration.ofSeconds(5));
+
+        awaitStatus(bookingId, Status.CONFIRMED);
+        verify(bookingService, never()).confirmBooking(any(), any(), any());
+    }
+
+    @Test
+    void unknownBookingHasNoStatus() {
+        intake = start(10, Duration.ofSeconds(5));
+
+        assertNull(intake.status(UUID.randomUUID()));
+    }
+
+    private BookingIntake start(int queueCapacity, Duration drainTimeout) {
+        return start(queueCapacity, drainTimeout, Duration.ofMillis(10));
+    }
+
+    private BookingIntake start(int queueCapacity, Duration drainTimeout, Duration retryBackoff) {
+        BookingIntake started = new BookingIntake(bookingService, bookingRepository, new TimeOrderedUuidGenerator(),
+                objectMapper, true, queueCapacity, 1, Duration.ZERO, drainTimeout, MAX_ATTEMPTS, retryBackoff, 1000,
+                Duration.ofMinutes(1), spillFile());
+        started.start();
+        return started;
+    }
+
+    private Path spillFile() {
+        return tempDir.resolve("spill.jsonl");
+    }
+
+    private Set<UUID> spilledIds() throws Exception {
+        Set<UUID> ids = new HashSet<>();
+        for (String line : Files.readAllLines(spillFile())) {
+            ids.add(UUID.fromString(objectMapper.readTree(line).get("bookingId").asText()));
+        }
+        return ids;
+    }
+
+    /**
+     * Makes confirmations wait for {@link #release}; an interrupted wait fails like an interrupted {@code Mono.block()}.
+     */
+    private void blockWorkers() {
+        when(bookingService.confirmBooking(any(), any(), any())).thenAnswer(invocation -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException("Thread interrupted", ex);
+            }
+            return invocation.getArgument(1);
+        });
+    }
+
+    private static UpstreamUnavailableException breakerOpen() {
+        return new UpstreamUnavailableException("Driving License API is unavailable: circuit breaker is open");
+    }
+
+    private BookingStatusResponse awaitStatus(UUID bookingId, Status expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            BookingStatusResponse current = intake.status(bookingId);
+            if (current != null && current.status() == expected) {
+                return current;
+            }
+            sleep(10);
+        }
+        fail("Booking " + bookingId + " did not reach " + expected + ", last status: " + intake.status(bookingId));
+        return null;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConfirmBookingRequest request() {
+        return new ConfirmBookingRequest("DL123456789", 30, LocalDate.now().plusDays(1), LocalDate.now().plusDays(3),
+                CarSegment.MEDIUM);
+    }
+}
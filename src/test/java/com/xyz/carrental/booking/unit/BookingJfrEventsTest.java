@@ -0,0 +1,90 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.jfr.BookingConfirmationEvent;
+import com.xyz.carrental.booking.jfr.UpstreamCallEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void confirmationEventCarriesSegmentOutcomeAndMaskedLicense() throws Exception {
+        List<RecordedEvent> events = record("com.xyz.carrental.booking.Confirmation", () -> {
+            BookingConfirmationEvent.start().end(CarSegment.MEDIUM, "DL123456789", null);
+            BookingConfirmationEvent.start().end(CarSegment.SMALL, "DL123456789", new BookingException("rejected"));
+            BookingConfirmationEvent.start().end(CarSegment.LARGE, "DL123456789", new IllegalStateException("boom"));
+        });
+
+        assertEquals(3, events.size());
+        assertEquals("MEDIUM", events.get(0).getString("segment"));
+        assertEquals("DL*******89", events.get(0).getString("license"));
+        assertEquals("SUCCESS", events.get(0).getString("outcome"));
+        assertEquals("REJECTED", events.get(1).getString("outcome"));
+        assertEquals("FAILED", events.get(2).getString("outcome"));
+    }
+
+    @Test
+    void upstreamCallEventRecordsEachSubscriptionWithStatus() throws Exception {
+        List<RecordedEvent> events = record("com.xyz.carrental.booking.UpstreamCall", () -> {
+            UpstreamCallEvent.record("car-pricing", "MEDIUM", null, Mono.just("rate")).block();
+            Mono<String> notFound = UpstreamCallEvent.record("driving-license", null, "DL123456789",
+                    Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", new HttpHeaders(), new byte[0], null)));
+            assertThrows(WebClientResponseException.class, notFound::block);
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent pricing = events.get(0);
+        assertEquals("car-pricing", pricing.getString("api"));
+        assertEquals("MEDIUM", pricing.getString("segment"));
+        assertNull(pricing.getString("license"));
+        assertEquals("SUCCESS", pricing.getString("outcome"));
+
+        RecordedEvent license = events.get(1);
+        assertEquals("driving-license", license.getString("api"));
+        assertEquals("DL*******89", license.getString("license"));
+        assertEquals(404, license.getInt("status"));
+        assertEquals("REJECTED", license.getString("outcome"));
+    }
+
+    @Test
+    void disabledUpstreamCallEventLeavesTheCallUntouched() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Mono<String> call = Mono.fromSupplier(() -> "rate").doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        assertEquals("rate", UpstreamCallEvent.record("car-pricing", "MEDIUM", null, call).block());
+        assertEquals(1, subscriptions.get());
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+}
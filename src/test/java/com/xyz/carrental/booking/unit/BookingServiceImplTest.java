@@ -1,26 +1,42 @@
 package com.xyz.carrental.booking.unit;
 
-import com.xyz.carrental.booking.booking.client.CarPricingClient;
-import com.xyz.carrental.booking.booking.client.DrivingLicenseClient;
-import com.xyz.carrental.booking.booking.domain.CarSegment;
-import com.xyz.carrental.booking.booking.dto.BookingDetailsResponse;
-import com.xyz.carrental.booking.booking.dto.ConfirmBookingRequest;
-import com.xyz.carrental.booking.booking.entity.Booking;
-import com.xyz.carrental.booking.booking.exception.BookingException;
-import com.xyz.carrental.booking.booking.mapper.BookingMapper;
-import com.xyz.carrental.booking.booking.repository.BookingRepository;
-import com.xyz.carrental.booking.booking.service.BookingServiceImpl;
-import com.xyz.carrental.booking.booking.stub.model.LicenseResponse;
-import com.xyz.carrental.booking.booking.stub.model.RateResponse;
-import com.xyz.carrental.booking.booking.validation.LicenseValidator;
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.cache.BookingDetailsCache;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.BookingDetailsResponse;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.metrics.BookingMetrics.Stage;
+import com.xyz.carrental.booking.metrics.BookingMetrics;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import com.xyz.carrental.booking.repository.BookingRepository;
+import com.xyz.carrental.booking.service.BookingServiceImpl;
+import com.xyz.carrental.booking.service.BookingWriter;
+import com.xyz.carrental.booking.service.RentalPriceCalculator;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,12 +57,31 @@ class BookingServiceImplTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Mock
+    private BookingWriter bookingWriter;
+
     @Mock
     private BookingMapper bookingMapper;
 
     @Mock
     private LicenseValidator licenseValidator;
 
+    @Spy
+    private RentalPriceCalculator rentalPriceCalculator = new RentalPriceCalculator(
+            new PricingEngine(PricingRules.none(), LocalDate.now()));
+
+    @Spy
+    private BookingIdGenerator bookingIdGenerator = new TimeOrderedUuidGenerator();
+
+    @Spy
+    private BookingDetailsCache bookingDetailsCache = new BookingDetailsCache(true, DataSize.ofMegabytes(1));
+
+    @Spy
+    private FleetAvailabilityIndex fleetAvailabilityIndex = new FleetAvailabilityIndex(Map.of(CarSegment.MEDIUM, 1));
+
+    @Spy
+    private BookingMetrics bookingMetrics = new BookingMetrics(new SimpleMeterRegistry());
+
     private ConfirmBookingRequest bookingRequest;
     private LicenseResponse licenseResponse;
     private RateResponse rateResponse;
@@ -79,46 +114,95 @@ class BookingServiceImplTest {
 
     @Test
     void confirmBooking_success() {
-        when(drivingLicenseClient.getLicenseDetails(bookingRequest.drivingLicenseNumber())).thenReturn(licenseResponse);
+        when(drivingLicenseClient.getLicenseDetailsAsync(bookingRequest.drivingLicenseNumber())).thenReturn(Mono.just(licenseResponse));
         doNothing().when(licenseValidator).validateLicense(licenseResponse);
-        when(carPricingClient.getRateForCategory(anyString())).thenReturn(rateResponse);
-        when(bookingMapper.toBooking(any(), anyString(), any())).thenReturn(booking);
-        when(bookingRepository.save(booking)).thenReturn(booking);
+        when(carPricingClient.getRateForCategoryAsync(anyString())).thenReturn(Mono.just(rateResponse));
+        when(bookingMapper.toBooking(any(), anyString(), any(), any())).thenReturn(booking);
+        when(bookingWriter.save(booking)).thenReturn(booking);
 
         UUID bookingId = bookingService.confirmBooking(bookingRequest);
         assertNotNull(bookingId);
         assertEquals(booking.getId(), bookingId);
 
         verify(licenseValidator).validateLicense(licenseResponse);
-        verify(bookingRepository).save(booking);
+        verify(bookingMapper).toBooking(eq(bookingRequest), eq("John Doe"), eq(new BigDecimal("250.00")), any(UUID.class));
+        verify(bookingWriter).save(booking);
+        for (Stage stage : EnumSet.range(Stage.CONFIRM_TOTAL, Stage.PERSIST)) {
+            assertEquals(1, bookingMetrics.timer(stage).count(), stage.name());
+        }
     }
 
     @Test
     void confirmBooking_licenseInvalid_throwsBookingException() {
-        when(drivingLicenseClient.getLicenseDetails(anyString())).thenReturn(licenseResponse);
+        when(drivingLicenseClient.getLicenseDetailsAsync(anyString())).thenReturn(Mono.just(licenseResponse));
+        when(carPricingClient.getRateForCategoryAsync(anyString())).thenReturn(Mono.just(rateResponse));
         doThrow(new BookingException("Invalid license")).when(licenseValidator).validateLicense(licenseResponse);
 
         BookingException ex = assertThrows(BookingException.class, () -> bookingService.confirmBooking(bookingRequest));
         assertEquals("Invalid license", ex.getMessage());
+        verify(bookingWriter, never()).save(any());
+    }
+
+    @Test
+    void confirmBooking_segmentFullyBooked_throwsBookingException() {
+        when(drivingLicenseClient.getLicenseDetailsAsync(anyString())).thenReturn(Mono.just(licenseResponse));
+        when(carPricingClient.getRateForCategoryAsync(anyString())).thenReturn(Mono.just(rateResponse));
+        when(bookingMapper.toBooking(any(), anyString(), any(), any())).thenReturn(booking);
+        when(bookingWriter.save(booking)).thenReturn(booking);
+        bookingService.confirmBooking(bookingRequest);
+
+        BookingException ex = assertThrows(BookingException.class, () -> bookingService.confirmBooking(bookingRequest));
+        assertTrue(ex.getMessage().startsWith("No MEDIUM cars available"));
+        verify(bookingWriter, times(1)).save(any());
+    }
+
+    @Test
+    void confirmBooking_saveFails_releasesReservation() {
+        when(drivingLicenseClient.getLicenseDetailsAsync(anyString())).thenReturn(Mono.just(licenseResponse));
+        when(carPricingClient.getRateForCategoryAsync(anyString())).thenReturn(Mono.just(rateResponse));
+        when(bookingMapper.toBooking(any(), anyString(), any(), any())).thenReturn(booking);
+        when(bookingWriter.save(booking)).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> bookingService.confirmBooking(bookingRequest));
+        assertEquals(0, fleetAvailabilityIndex.booked(CarSegment.MEDIUM, bookingRequest.startDate()));
     }
 
     @Test
     void getBookingDetails_success() {
-        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
-        BookingDetailsResponse response = mock(BookingDetailsResponse.class);
-        when(bookingMapper.toResponse(booking)).thenReturn(response);
+        BookingDetailsResponse response = details();
+        when(bookingRepository.findDetailsById(booking.getId())).thenReturn(Optional.of(response));
 
         BookingDetailsResponse result = bookingService.getBookingDetails(booking.getId());
-        assertNotNull(result);
-        verify(bookingRepository).findById(booking.getId());
+        assertEquals(response, result);
+        verify(bookingRepository).findDetailsById(booking.getId());
+        verify(bookingRepository, never()).findById(any());
+        verify(bookingMapper, never()).toResponse(any());
+    }
+
+    @Test
+    void getBookingDetails_secondReadIsServedFromCache() {
+        BookingDetailsResponse response = details();
+        when(bookingRepository.findDetailsById(booking.getId())).thenReturn(Optional.of(response));
+
+        assertEquals(response, bookingService.getBookingDetails(booking.getId()));
+        assertEquals(response, bookingService.getBookingDetails(booking.getId()));
+
+        verify(bookingRepository, times(1)).findDetailsById(booking.getId());
+        assertEquals(1, bookingDetailsCache.stats().hits());
+        assertEquals(0.5, bookingDetailsCache.stats().hitRate());
     }
 
     @Test
     void getBookingDetails_notFound_throwsBookingException() {
         UUID id = UUID.randomUUID();
-        when(bookingRepository.findById(id)).thenReturn(Optional.empty());
+        when(bookingRepository.findDetailsById(id)).thenReturn(Optional.empty());
 
         BookingException ex = assertThrows(BookingException.class, () -> bookingService.getBookingDetails(id));
         assertTrue(ex.getMessage().contains("Car Rental Booking details not found"));
     }
+
+    private BookingDetailsResponse details() {
+        return new BookingDetailsResponse(booking.getId(), "DL123456789", "John Doe", 25,
+                booking.getStartDate(), booking.getEndDate(), CarSegment.MEDIUM, new BigDecimal("250.00"));
+    }
 }
@@ -0,0 +1,103 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.resilience.CircuitBreaker;
+import com.xyz.carrental.booking.resilience.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Races many threads through the OPEN to HALF_OPEN transition and the half-open probes.
+ */
+class CircuitBreakerTest {
+
+    private static final int PROBES = 3;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 300;
+    private static final CircuitBreaker.Settings SETTINGS = new CircuitBreaker.Settings(
+            10, 4, 50f, 100f, Duration.ofMillis(500), Duration.ofSeconds(10), PROBES);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void concurrentCallersGetExactlyThePermittedProbes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                CircuitBreaker breaker = openBreaker();
+                clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+                int permitted = race(executor, () -> breaker.tryAcquirePermission() ? 1 : 0);
+
+                assertEquals(PROBES, permitted, "round " + round);
+                assertEquals(State.HALF_OPEN, breaker.state());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentSuccessfulProbesCloseTheBreakerOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                CircuitBreaker breaker = openBreaker();
+                clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+                int probed = race(executor, () -> {
+                    if (!breaker.tryAcquirePermission()) {
+                        return 0;
+                    }
+                    breaker.onResult(Duration.ofMillis(10).toNanos(), false);
+                    return 1;
+                });
+
+                assertEquals(State.CLOSED, breaker.state(), "round " + round);
+                assertTrue(probed >= PROBES, "round " + round);
+                assertEquals(0f, breaker.failureRate());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", SETTINGS, clock::get);
+        for (int i = 0; i < SETTINGS.minimumCalls(); i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onResult(Duration.ofMillis(10).toNanos(), true);
+        }
+        assertEquals(State.OPEN, breaker.state());
+        return breaker;
+    }
+
+    /**
+     * Runs {@code call} on every thread at once and returns the sum of the results.
+     */
+    private static int race(ExecutorService executor, Callable<Integer> call) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        List<Future<Integer>> results = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                barrier.await();
+                return call.call();
+            }));
+        }
+        int sum = 0;
+        for (Future<Integer> result : results) {
+            sum += result.get();
+        }
+        return sum;
+    }
+}
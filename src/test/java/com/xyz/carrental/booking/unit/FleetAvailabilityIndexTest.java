@@ -0,0 +1,132 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.availability.BookedPeriod;
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.exception.BookingException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetAvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(10);
+
+    @Test
+    void rejectsOverlappingBookingOnceSegmentIsFull() {
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.SMALL, 1));
+
+        assertTrue(index.tryReserve(CarSegment.SMALL, DAY, DAY.plusDays(2)));
+        assertFalse(index.tryReserve(CarSegment.SMALL, DAY.plusDays(2), DAY.plusDays(4)));
+        assertTrue(index.tryReserve(CarSegment.SMALL, DAY.plusDays(3), DAY.plusDays(4)));
+    }
+
+    @Test
+    void failedReservationLeavesNoPartialBookings() {
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.SMALL, 1));
+        index.reserve(CarSegment.SMALL, DAY.plusDays(3), DAY.plusDays(3));
+
+        assertThrows(BookingException.class, () -> index.reserve(CarSegment.SMALL, DAY, DAY.plusDays(5)));
+
+        assertEquals(0, index.booked(CarSegment.SMALL, DAY));
+        assertEquals(1, index.booked(CarSegment.SMALL, DAY.plusDays(3)));
+        assertEquals(0, index.booked(CarSegment.SMALL, DAY.plusDays(4)));
+    }
+
+    @Test
+    void releaseFreesTheCar() {
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.MEDIUM, 1));
+        index.reserve(CarSegment.MEDIUM, DAY, DAY.plusDays(1));
+
+        index.release(CarSegment.MEDIUM, DAY, DAY.plusDays(1));
+
+        assertTrue(index.tryReserve(CarSegment.MEDIUM, DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void segmentsWithoutCapacityAreUnlimited() {
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.SMALL, 1));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(index.tryReserve(CarSegment.LARGE, DAY, DAY.plusDays(29)));
+        }
+    }
+
+    @Test
+    void loadedBookingsCountAgainstCapacity() {
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.LARGE, 2));
+        index.load(List.of(
+                new BookedPeriod(CarSegment.LARGE, DAY, DAY.plusDays(2)),
+                new BookedPeriod(CarSegment.LARGE, DAY.plusDays(1), DAY.plusDays(1))));
+
+        assertEquals(2, index.booked(CarSegment.LARGE, DAY.plusDays(1)));
+        assertFalse(index.tryReserve(CarSegment.LARGE, DAY.plusDays(1), DAY.plusDays(3)));
+        assertTrue(index.tryReserve(CarSegment.LARGE, DAY, DAY));
+    }
+
+    @Test
+    void concurrentBookingsForTheLastCarHaveExactlyOneWinner() throws InterruptedException {
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.EXTRALARGE, 3));
+        index.reserve(CarSegment.EXTRALARGE, DAY, DAY.plusDays(6));
+        index.reserve(CarSegment.EXTRALARGE, DAY, DAY.plusDays(6));
+
+        for (int round = 0; round < 50; round++) {
+            AtomicInteger winners = race(16, () -> index.tryReserve(CarSegment.EXTRALARGE, DAY, DAY.plusDays(6)));
+
+            assertEquals(1, winners.get());
+            assertEquals(3, index.booked(CarSegment.EXTRALARGE, DAY.plusDays(3)));
+            index.release(CarSegment.EXTRALARGE, DAY, DAY.plusDays(6));
+        }
+    }
+
+    @Test
+    void concurrentOverlappingBookingsNeverExceedCapacity() throws InterruptedException {
+        int capacity = 4;
+        FleetAvailabilityIndex index = new FleetAvailabilityIndex(Map.of(CarSegment.MEDIUM, capacity));
+        AtomicInteger offset = new AtomicInteger();
+
+        AtomicInteger winners = race(32, () -> {
+            // Staggered periods, so threads overlap on different subsets of days
+            int start = offset.getAndIncrement() % 5;
+            return index.tryReserve(CarSegment.MEDIUM, DAY.plusDays(start), DAY.plusDays(start + 4));
+        });
+
+        int bookedDays = 0;
+        for (int day = 0; day < 9; day++) {
+            int booked = index.booked(CarSegment.MEDIUM, DAY.plusDays(day));
+            assertTrue(booked <= capacity, "day " + day + " booked " + booked);
+            bookedDays += booked;
+        }
+        // Every day reserved by a losing thread was rolled back
+        assertEquals(winners.get() * 5, bookedDays);
+    }
+
+    private static AtomicInteger race(int threads, BooleanSupplier attempt) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                if (attempt.getAsBoolean()) {
+                    winners.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return winners;
+    }
+}
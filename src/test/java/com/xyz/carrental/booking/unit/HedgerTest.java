@@ -0,0 +1,104 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.resilience.Hedger;
+import com.xyz.carrental.booking.resilience.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgerTest {
+
+    private static final int WARM_UP_CALLS = 5;
+
+    @Test
+    void slowPrimaryIsOvertakenByHedge() {
+        Hedger hedger = warmedUp(1.0);
+        AtomicInteger requests = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = hedger.hedge(slowThenFast(requests, Duration.ofSeconds(2))).block();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("fast", result);
+        assertTrue(elapsedMs < 1000, "Waited for the slow primary request: " + elapsedMs + "ms");
+        assertEquals(2, requests.get());
+        assertEquals(1, hedger.hedges());
+        assertEquals(1, hedger.hedgeWins());
+        assertEquals(0, hedger.primaryWins());
+    }
+
+    @Test
+    void noHedgeWhenBudgetIsSpent() {
+        Hedger hedger = warmedUp(0.0);
+        AtomicInteger requests = new AtomicInteger();
+
+        String result = hedger.hedge(slowThenFast(requests, Duration.ofMillis(200))).block();
+
+        assertEquals("slow", result);
+        assertEquals(1, requests.get());
+        assertEquals(0, hedger.hedges());
+        assertEquals(1, hedger.budgetExhausted());
+    }
+
+    @Test
+    void noHedgeBeforeEnoughSamples() {
+        Hedger hedger = new Hedger(settings(1.0), System::nanoTime);
+        AtomicInteger requests = new AtomicInteger();
+
+        assertEquals(-1, hedger.hedgeDelayNanos());
+        assertEquals("slow", hedger.hedge(slowThenFast(requests, Duration.ofMillis(100))).block());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void primaryFailureIsNotHedged() {
+        Hedger hedger = warmedUp(1.0);
+        AtomicInteger requests = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            requests.incrementAndGet();
+            return Mono.error(new IllegalStateException("down"));
+        });
+
+        assertThrows(IllegalStateException.class, () -> hedger.hedge(failing).block());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void histogramPercentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.record(Duration.ofMillis(ms).toNanos());
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(990_000, LatencyHistogram.percentileMicros(99, histogram), 990_000 * 0.035);
+        assertEquals(500_000, LatencyHistogram.percentileMicros(50, histogram), 500_000 * 0.035);
+        assertEquals(-1, LatencyHistogram.percentileMicros(99, new LatencyHistogram()));
+    }
+
+    private static Hedger warmedUp(double maxHedgeRatio) {
+        Hedger hedger = new Hedger(settings(maxHedgeRatio), System::nanoTime);
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            hedger.hedge(Mono.just("warm-up")).block();
+        }
+        assertEquals(Duration.ofMillis(20).toNanos(), hedger.hedgeDelayNanos());
+        return hedger;
+    }
+
+    private static Hedger.Settings settings(double maxHedgeRatio) {
+        return new Hedger.Settings(true, 95, Duration.ofMillis(20), maxHedgeRatio, WARM_UP_CALLS, Duration.ofMinutes(1));
+    }
+
+    /**
+     * The first request answers after {@code slowDelay}, any further request at once.
+     */
+    private static Mono<String> slowThenFast(AtomicInteger requests, Duration slowDelay) {
+        return Mono.defer(() -> requests.getAndIncrement() == 0
+                ? Mono.delay(slowDelay).thenReturn("slow")
+                : Mono.just("fast"));
+    }
+}
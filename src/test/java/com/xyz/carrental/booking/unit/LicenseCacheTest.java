@@ -0,0 +1,86 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.client.LicenseCache;
+import com.xyz.carrental.booking.exception.LicenseNotFoundException;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LicenseCacheTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final LicenseCache cache = new LicenseCache(true, 2, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+    @Test
+    void repeatedLookupIsServedFromCache() {
+        cache.get("DL123456789", () -> load("DL123456789")).block();
+        LicenseResponse cached = cache.get("DL123456789", () -> load("DL123456789")).block();
+
+        assertEquals("John Doe", cached.ownerName());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void notFoundIsCachedNegatively() {
+        Mono<LicenseResponse> notFound = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new LicenseNotFoundException("Driving license not found: DL000000000"));
+        });
+
+        assertThrows(LicenseNotFoundException.class, () -> cache.get("DL000000000", () -> notFound).block());
+        LicenseNotFoundException ex = assertThrows(LicenseNotFoundException.class,
+                () -> cache.get("DL000000000", () -> notFound).block());
+
+        assertEquals("Driving license not found: DL000000000", ex.getMessage());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void concurrentMissesShareOneUpstreamCall() {
+        Sinks.One<LicenseResponse> upstream = Sinks.one();
+        Mono<LicenseResponse> pending = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        });
+
+        Mono<LicenseResponse> first = cache.get("DL123456789", () -> pending);
+        Mono<LicenseResponse> second = cache.get("DL123456789", () -> pending);
+        first.subscribe();
+        second.subscribe();
+        upstream.tryEmitValue(license("DL123456789"));
+
+        assertEquals("John Doe", first.block().ownerName());
+        assertEquals("John Doe", second.block().ownerName());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, cache.coalescedLookups());
+    }
+
+    @Test
+    void cacheStaysWithinMaxSize() {
+        cache.get("DL100000001", () -> load("DL100000001")).block();
+        cache.get("DL100000002", () -> load("DL100000002")).block();
+        cache.get("DL100000003", () -> load("DL100000003")).block();
+
+        assertEquals(2, cache.stats().size());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    private Mono<LicenseResponse> load(String licenseNumber) {
+        return Mono.fromSupplier(() -> {
+            upstreamCalls.incrementAndGet();
+            return license(licenseNumber);
+        });
+    }
+
+    private static LicenseResponse license(String licenseNumber) {
+        return new LicenseResponse(licenseNumber, "John Doe", LocalDate.now().minusYears(3), LocalDate.now().plusYears(7));
+    }
+}
@@ -0,0 +1,73 @@
+package com.xyz.carrental.booking.unit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.xyz.carrental.booking.logging.LogSamplingTurboFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogSamplingTurboFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LoggerContext context = new LoggerContext();
+    private final LogSamplingTurboFilter filter = new LogSamplingTurboFilter(nanos::get);
+    private final Logger service = context.getLogger("com.xyz.carrental.booking.service.BookingServiceImpl");
+
+    LogSamplingTurboFilterTest() {
+        filter.setLoggers("com.xyz.carrental.booking.service, com.xyz.carrental.booking.client");
+        filter.setMaxEventsPerSecond(2);
+        service.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void eventsOverTheBudgetAreDroppedUntilTheNextSecond() {
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.DEBUG));
+        assertEquals(FilterReply.DENY, decide(service, Level.INFO));
+
+        nanos.set(1_000_000_000L);
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.INFO));
+        assertEquals(1, filter.getSampledOut());
+    }
+
+    @Test
+    void warningsAndErrorsAlwaysPass() {
+        decide(service, Level.INFO);
+        decide(service, Level.INFO);
+
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.ERROR));
+    }
+
+    @Test
+    void eachLoggerHasItsOwnBudget() {
+        Logger client = context.getLogger("com.xyz.carrental.booking.client.DrivingLicenseClient");
+        decide(service, Level.INFO);
+        decide(service, Level.INFO);
+
+        assertEquals(FilterReply.NEUTRAL, decide(client, Level.INFO));
+    }
+
+    @Test
+    void otherLoggersAndDisabledLevelsAreNotCounted() {
+        Logger other = context.getLogger("com.xyz.carrental.booking.availability.FleetAvailabilityIndex");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+            decide(service, Level.TRACE);
+            filter.decide(null, service, Level.INFO, null, null, null);
+        }
+
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(service, Level.INFO));
+        assertEquals(0, filter.getSampledOut());
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
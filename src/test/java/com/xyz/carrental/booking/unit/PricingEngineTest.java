@@ -0,0 +1,109 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import com.xyz.carrental.booking.service.RentalPriceCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PricingEngineTest {
+
+    // A Monday
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void withoutRulesMatchesThePreviousFormulaExactly() {
+        RentalPriceCalculator calculator = new RentalPriceCalculator(
+                new PricingEngine(new PricingRules(60, null, null, null), MONDAY));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // Scales 0 to 6, including half-cent cases such as 12.345
+            BigDecimal rate = BigDecimal.valueOf(random.nextInt(1_000_000), random.nextInt(7));
+            LocalDate start = MONDAY.plusDays(random.nextInt(120) - 30);
+            LocalDate end = start.plusDays(random.nextInt(30));
+
+            assertEquals(previousFormula(rate, start, end), calculator.calculateTotal(CarSegment.SMALL, rate, start, end),
+                    () -> rate + " from " + start + " to " + end);
+        }
+    }
+
+    @Test
+    void ratesBeyondLongArithmeticFallBackToTheSameFormula() {
+        RentalPriceCalculator calculator = new RentalPriceCalculator(new PricingEngine(PricingRules.none(), MONDAY));
+        BigDecimal rate = new BigDecimal("49.99999999999999999995");
+
+        assertEquals(previousFormula(rate, MONDAY, MONDAY.plusDays(2)),
+                calculator.calculateTotal(CarSegment.SMALL, rate, MONDAY, MONDAY.plusDays(2)));
+    }
+
+    @Test
+    void weekendDaysCarryTheSurcharge() {
+        PricingEngine engine = new PricingEngine(
+                new PricingRules(30, new BigDecimal("10"), null, null), MONDAY);
+
+        // Friday to Monday: 2 weekdays at 50.00, 2 weekend days at 55.00
+        assertEquals(21_000, engine.totalCents(CarSegment.MEDIUM, 5000, 2, MONDAY.plusDays(4), MONDAY.plusDays(7)));
+    }
+
+    @Test
+    void largestApplicableDiscountTierApplies() {
+        PricingEngine engine = new PricingEngine(new PricingRules(30, null,
+                Map.of(7, new BigDecimal("5"), 14, new BigDecimal("10")), null), MONDAY);
+
+        assertEquals(30_000, engine.totalCents(CarSegment.MEDIUM, 5000, 2, MONDAY, MONDAY.plusDays(5)));
+        assertEquals(33_250, engine.totalCents(CarSegment.MEDIUM, 5000, 2, MONDAY, MONDAY.plusDays(6)));
+        assertEquals(90_000, engine.totalCents(CarSegment.MEDIUM, 5000, 2, MONDAY, MONDAY.plusDays(19)));
+    }
+
+    @Test
+    void seasonsApplyToTheirSegmentsOnly() {
+        PricingEngine engine = new PricingEngine(new PricingRules(30, null, null, List.of(
+                new PricingRules.Season("spring", Set.of(CarSegment.LARGE), "03-01", "03-04", new BigDecimal("120")))),
+                MONDAY);
+
+        // 2 March to 5 March: 3 days in season, 1 outside
+        assertEquals(23_000, engine.totalCents(CarSegment.LARGE, 5000, 2, MONDAY, MONDAY.plusDays(3)));
+        assertEquals(20_000, engine.totalCents(CarSegment.SMALL, 5000, 2, MONDAY, MONDAY.plusDays(3)));
+    }
+
+    @Test
+    void seasonsMaySpanTheNewYear() {
+        PricingEngine engine = new PricingEngine(new PricingRules(0, null, null, List.of(
+                new PricingRules.Season("winter", Set.of(), "12-30", "01-02", new BigDecimal("150")))), MONDAY);
+
+        // 29 December to 3 January: 4 days in season
+        assertEquals(40_000, engine.totalCents(CarSegment.SMALL, 5000, 2,
+                LocalDate.of(2026, 12, 29), LocalDate.of(2027, 1, 3)));
+    }
+
+    @Test
+    void daysOutsideTheHorizonPriceLikeDaysInside() {
+        PricingRules rules = new PricingRules(14, new BigDecimal("12.5"), Map.of(3, new BigDecimal("7.5")), List.of(
+                new PricingRules.Season("spring", Set.of(), "03-05", "03-20", new BigDecimal("110"))));
+        PricingEngine compiled = new PricingEngine(rules, MONDAY);
+        PricingEngine uncompiled = new PricingEngine(new PricingRules(0, rules.weekendSurchargePercent(),
+                rules.longRentalDiscounts(), rules.seasons()), MONDAY);
+
+        for (int offset = -5; offset < 30; offset++) {
+            LocalDate start = MONDAY.plusDays(offset);
+            assertEquals(uncompiled.totalCents(CarSegment.MEDIUM, 4999, 2, start, start.plusDays(9)),
+                    compiled.totalCents(CarSegment.MEDIUM, 4999, 2, start, start.plusDays(9)));
+        }
+    }
+
+    private static BigDecimal previousFormula(BigDecimal rate, LocalDate start, LocalDate end) {
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        return rate.multiply(BigDecimal.valueOf(days)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
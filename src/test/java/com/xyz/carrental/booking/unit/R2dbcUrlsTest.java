@@ -0,0 +1,41 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.repository.R2dbcUrls;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class R2dbcUrlsTest {
+
+    @Test
+    void derivesH2InMemoryUrlWithOptions() {
+        assertEquals("r2dbc:pool:h2:mem:///pooltestdb?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL&maxSize=20",
+                R2dbcUrls.resolve("jdbc:h2:mem:pooltestdb;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "", 20));
+    }
+
+    @Test
+    void derivesNetworkDatabaseUrl() {
+        assertEquals("r2dbc:pool:postgresql://db:5432/bookings?sslmode=require&maxSize=10",
+                R2dbcUrls.resolve("jdbc:postgresql://db:5432/bookings?sslmode=require", null, 10));
+    }
+
+    @Test
+    void explicitUrlForSameDatabaseIsKept() {
+        String explicit = "r2dbc:pool:h2:mem:///carbookingdb?options=DB_CLOSE_DELAY=-1&maxSize=5";
+
+        assertEquals(explicit, R2dbcUrls.resolve("jdbc:h2:mem:carbookingdb;DB_CLOSE_DELAY=-1", explicit, 20));
+    }
+
+    @Test
+    void explicitUrlForAnotherDatabaseFailsStartup() {
+        assertThrows(IllegalStateException.class, () -> R2dbcUrls.resolve(
+                "jdbc:h2:mem:pooltestdb;DB_CLOSE_DELAY=-1", "r2dbc:pool:h2:mem:///carbookingdb", 20));
+    }
+
+    @Test
+    void underivableUrlRequiresExplicitSetting() {
+        assertThrows(IllegalStateException.class, () -> R2dbcUrls.resolve("jdbc:h2:file:./data/bookings", "", 20));
+        assertEquals("r2dbc:h2:file///./data/bookings",
+                R2dbcUrls.resolve("jdbc:h2:file:./data/bookings", "r2dbc:h2:file///./data/bookings", 20));
+    }
+}
@@ -0,0 +1,133 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.availability.FleetAvailabilityIndex;
+import com.xyz.carrental.booking.client.CarPricingClient;
+import com.xyz.carrental.booking.client.DrivingLicenseClient;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.dto.ConfirmBookingRequest;
+import com.xyz.carrental.booking.entity.Booking;
+import com.xyz.carrental.booking.id.BookingIdGenerator;
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import com.xyz.carrental.booking.mapper.BookingMapper;
+import com.xyz.carrental.booking.pricing.PricingEngine;
+import com.xyz.carrental.booking.pricing.PricingRules;
+import com.xyz.carrental.booking.repository.ReactiveBookingRepository;
+import com.xyz.carrental.booking.service.ReactiveBookingServiceImpl;
+import com.xyz.carrental.booking.service.RentalPriceCalculator;
+import com.xyz.carrental.booking.stub.model.LicenseResponse;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import com.xyz.carrental.booking.validation.LicenseValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class ReactiveBookingServiceImplTest {
+
+    @InjectMocks
+    private ReactiveBookingServiceImpl bookingService;
+
+    @Mock
+    private DrivingLicenseClient drivingLicenseClient;
+
+    @Mock
+    private CarPricingClient carPricingClient;
+
+    @Mock
+    private ReactiveBookingRepository reactiveBookingRepository;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    @Mock
+    private LicenseValidator licenseValidator;
+
+    @Spy
+    private RentalPriceCalculator rentalPriceCalculator = new RentalPriceCalculator(
+            new PricingEngine(PricingRules.none(), LocalDate.now()));
+
+    @Spy
+    private BookingIdGenerator bookingIdGenerator = new TimeOrderedUuidGenerator();
+
+    @Spy
+    private FleetAvailabilityIndex fleetAvailabilityIndex = new FleetAvailabilityIndex(Map.of(CarSegment.MEDIUM, 1));
+
+    private ConfirmBookingRequest bookingRequest;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        bookingRequest = new ConfirmBookingRequest("DL123456789", 25, LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(5), CarSegment.MEDIUM);
+        booking = Booking.builder()
+                .id(UUID.randomUUID())
+                .drivingLicenseNumber(bookingRequest.drivingLicenseNumber())
+                .customerName("John Doe")
+                .age(bookingRequest.age())
+                .startDate(bookingRequest.startDate())
+                .endDate(bookingRequest.endDate())
+                .rentalPrice(BigDecimal.valueOf(250.0))
+                .build();
+
+        when(drivingLicenseClient.getLicenseDetailsAsync(bookingRequest.drivingLicenseNumber())).thenReturn(Mono.just(
+                new LicenseResponse("DL123456789", "John Doe", LocalDate.now().minusYears(3), LocalDate.now().plusYears(7))));
+        when(carPricingClient.getRateForCategoryAsync(anyString()))
+                .thenReturn(Mono.just(new RateResponse("MEDIUM", BigDecimal.valueOf(50.0))));
+        when(bookingMapper.toBooking(any(), anyString(), any(), any())).thenReturn(booking);
+    }
+
+    @Test
+    void confirmBooking_keepsTheReservationOfASavedBooking() {
+        when(reactiveBookingRepository.insert(booking)).thenReturn(Mono.just(booking.getId()));
+
+        assertEquals(booking.getId(), bookingService.confirmBooking(bookingRequest).block());
+
+        assertEquals(1, fleetAvailabilityIndex.booked(CarSegment.MEDIUM, bookingRequest.startDate()));
+    }
+
+    @Test
+    void confirmBooking_releasesTheReservationWhenTheInsertFails() {
+        when(reactiveBookingRepository.insert(booking)).thenReturn(Mono.error(new DataIntegrityViolationException("duplicate")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> bookingService.confirmBooking(bookingRequest).block());
+
+        assertEquals(0, fleetAvailabilityIndex.booked(CarSegment.MEDIUM, bookingRequest.startDate()));
+    }
+
+    @Test
+    void confirmBooking_releasesTheReservationWhenCancelledDuringTheInsert() {
+        AtomicBoolean insertCancelled = new AtomicBoolean();
+        when(reactiveBookingRepository.insert(booking))
+                .thenReturn(Mono.<UUID>never().doOnCancel(() -> insertCancelled.set(true)));
+
+        Disposable subscription = bookingService.confirmBooking(bookingRequest).subscribe();
+        assertEquals(1, fleetAvailabilityIndex.booked(CarSegment.MEDIUM, bookingRequest.startDate()));
+
+        // Client disconnects before the insert completes
+        subscription.dispose();
+
+        assertTrue(insertCancelled.get());
+        assertEquals(0, fleetAvailabilityIndex.booked(CarSegment.MEDIUM, bookingRequest.startDate()));
+        for (LocalDate day = bookingRequest.startDate(); day.isBefore(bookingRequest.endDate()); day = day.plusDays(1)) {
+            assertEquals(0, fleetAvailabilityIndex.booked(CarSegment.MEDIUM, day), day.toString());
+        }
+    }
+}
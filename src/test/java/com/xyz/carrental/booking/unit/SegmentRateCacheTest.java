@@ -0,0 +1,166 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.client.SegmentRateCache;
+import com.xyz.carrental.booking.domain.CarSegment;
+import com.xyz.carrental.booking.exception.BookingException;
+import com.xyz.carrental.booking.stub.model.RateResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentRateCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private SegmentRateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SegmentRateCache(true, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(30), now::get);
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        assertEquals(rate(50), cache.get(CarSegment.MEDIUM, () -> load(50)).block());
+        assertEquals(rate(50), cache.get(CarSegment.MEDIUM, () -> load(60)).block());
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void segmentsAreCachedIndependently() {
+        cache.get(CarSegment.SMALL, () -> load(30)).block();
+
+        assertEquals(rate(80), cache.get(CarSegment.LARGE, () -> load(80)).block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void refreshesInBackgroundBeforeExpiry() {
+        cache.get(CarSegment.MEDIUM, () -> load(50)).block();
+        now.set(Duration.ofMinutes(9).plusSeconds(30).toNanos());
+
+        // Still served from cache, but a reload is triggered
+        assertEquals(rate(50), cache.get(CarSegment.MEDIUM, () -> load(55)).block());
+        assertEquals(1, cache.stats().refreshes());
+        assertEquals(rate(55), cache.get(CarSegment.MEDIUM, () -> load(70)).block());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void concurrentMissesShareOneUpstreamCall() {
+        Sinks.One<RateResponse> upstream = Sinks.one();
+        List<CompletableFuture<RateResponse>> lookups = IntStream.range(0, 10)
+                .mapToObj(i -> cache.get(CarSegment.MEDIUM, () -> slowLoad(upstream)).toFuture())
+                .toList();
+
+        upstream.tryEmitValue(rate(50));
+
+        lookups.forEach(lookup -> assertEquals(rate(50), lookup.join()));
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(9, cache.stats().coalesced());
+    }
+
+    @Test
+    void expiredRateIsReloadedOnceAndJoinsARunningRefresh() {
+        cache.get(CarSegment.MEDIUM, () -> load(50)).block();
+        now.set(Duration.ofMinutes(11).toNanos());
+
+        // Cache-only lookup starts the reload; lookups that wait for a rate join it
+        Sinks.One<RateResponse> upstream = Sinks.one();
+        assertEquals(rate(50), cache.getCached(CarSegment.MEDIUM, () -> slowLoad(upstream)));
+        CompletableFuture<RateResponse> first = cache.get(CarSegment.MEDIUM, this::fail).toFuture();
+        CompletableFuture<RateResponse> second = cache.get(CarSegment.MEDIUM, this::fail).toFuture();
+        upstream.tryEmitValue(rate(55));
+
+        assertEquals(rate(55), first.join());
+        assertEquals(rate(55), second.join());
+        assertEquals(2, upstreamCalls.get());
+
+        // Once the load has completed, the next expiry loads again
+        now.set(Duration.ofMinutes(22).toNanos());
+        assertEquals(rate(60), cache.get(CarSegment.MEDIUM, () -> load(60)).block());
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    void servesStaleRateWithinBoundWhenUpstreamFails() {
+        cache.get(CarSegment.MEDIUM, () -> load(50)).block();
+
+        now.set(Duration.ofMinutes(20).toNanos());
+        assertEquals(rate(50), cache.get(CarSegment.MEDIUM, this::fail).block());
+        assertEquals(1, cache.stats().staleHits());
+
+        now.set(Duration.ofMinutes(41).toNanos());
+        assertThrows(BookingException.class, () -> cache.get(CarSegment.MEDIUM, this::fail).block());
+    }
+
+    @Test
+    void cachedLookupNeverWaitsForUpstream() {
+        // Nothing cached yet: no rate, but one background load
+        assertNull(cache.getCached(CarSegment.MEDIUM, () -> load(50)));
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(rate(50), cache.getCached(CarSegment.MEDIUM, () -> load(60)));
+        assertEquals(1, upstreamCalls.get());
+
+        // Expired: the last rate is served within max-stale while it is reloaded
+        now.set(Duration.ofMinutes(15).toNanos());
+        assertEquals(rate(50), cache.getCached(CarSegment.MEDIUM, this::fail));
+        assertEquals(1, cache.stats().staleHits());
+
+        now.set(Duration.ofMinutes(45).toNanos());
+        assertNull(cache.getCached(CarSegment.MEDIUM, this::fail));
+    }
+
+    @Test
+    void preloadedRatesAreServedFromTheFirstCachedLookup() {
+        assertTrue(cache.preload(segment -> load(50)));
+        assertEquals(CarSegment.values().length, upstreamCalls.get());
+
+        assertEquals(rate(50), cache.getCached(CarSegment.SMALL, this::fail));
+        assertEquals(0, cache.stats().misses());
+        assertFalse(new SegmentRateCache(false, Duration.ofMinutes(10), Duration.ZERO, Duration.ZERO, now::get)
+                .preload(segment -> load(50)));
+    }
+
+    @Test
+    void disabledCacheAlwaysCallsUpstream() {
+        SegmentRateCache disabled = new SegmentRateCache(false, Duration.ofMinutes(10), Duration.ZERO, Duration.ZERO, now::get);
+        disabled.get(CarSegment.MEDIUM, () -> load(50)).block();
+        disabled.get(CarSegment.MEDIUM, () -> load(50)).block();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private Mono<RateResponse> load(int ratePerDay) {
+        return Mono.fromSupplier(() -> {
+            upstreamCalls.incrementAndGet();
+            return rate(ratePerDay);
+        });
+    }
+
+    private Mono<RateResponse> slowLoad(Sinks.One<RateResponse> upstream) {
+        return upstream.asMono().doOnSubscribe(subscription -> upstreamCalls.incrementAndGet());
+    }
+
+    private Mono<RateResponse> fail() {
+        return Mono.error(new BookingException("Failed to call Car Pricing API"));
+    }
+
+    private static RateResponse rate(int ratePerDay) {
+        return new RateResponse("MEDIUM", BigDecimal.valueOf(ratePerDay));
+    }
+}
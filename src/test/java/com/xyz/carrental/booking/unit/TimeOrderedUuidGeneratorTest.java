@@ -0,0 +1,75 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.id.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(now::get);
+
+    @Test
+    void generatesVersion7WithRfcVariant() {
+        UUID id = generator.nextId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now.get(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingWithinTheSameMillisecond() {
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.nextId();
+            assertTrue(compareUnsigned(previous, next) < 0, "IDs must be strictly increasing");
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsKeepIncreasingWhenClockMovesBackwards() {
+        UUID before = generator.nextId();
+        now.addAndGet(-5_000);
+
+        UUID after = generator.nextId();
+
+        assertTrue(compareUnsigned(before, after) < 0);
+        assertEquals(7, after.version());
+    }
+
+    @Test
+    void concurrentGenerationProducesUniqueIds() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    // UUID.compareTo compares signed longs, which does not match the byte order of a v7 UUID
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
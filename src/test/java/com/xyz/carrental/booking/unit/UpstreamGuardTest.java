@@ -0,0 +1,143 @@
+package com.xyz.carrental.booking.unit;
+
+import com.xyz.carrental.booking.exception.UpstreamUnavailableException;
+import com.xyz.carrental.booking.resilience.Bulkhead;
+import com.xyz.carrental.booking.resilience.CircuitBreaker;
+import com.xyz.carrental.booking.resilience.CircuitBreaker.State;
+import com.xyz.carrental.booking.resilience.Hedger;
+import com.xyz.carrental.booking.resilience.UpstreamGuard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardTest {
+
+    private static final CircuitBreaker.Settings SETTINGS = new CircuitBreaker.Settings(
+            10, 4, 50f, 100f, Duration.ofMillis(500), Duration.ofSeconds(10), 2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+    private UpstreamGuard guard;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("test", SETTINGS, clock::get);
+        guard = new UpstreamGuard("Test API", breaker, new Bulkhead(2),
+                new Hedger(Hedger.Settings.disabled(), clock::get), clock::get);
+    }
+
+    @Test
+    void opensAfterFailureRateThresholdAndFailsFast() {
+        call(Mono.just("ok"));
+        call(Mono.just("ok"));
+        failCall();
+        assertEquals(State.CLOSED, breaker.state());
+        failCall();
+        assertEquals(State.OPEN, breaker.state());
+
+        int callsBefore = upstreamCalls.get();
+        UpstreamUnavailableException ex = assertThrows(UpstreamUnavailableException.class, () -> call(Mono.just("ok")));
+        assertTrue(ex.getMessage().contains("circuit breaker is open"));
+        assertEquals(callsBefore, upstreamCalls.get());
+        assertEquals(1, breaker.notPermittedCalls());
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> call(Mono.error(
+                    WebClientResponseException.create(404, "Not Found", new HttpHeaders(), new byte[0], null))));
+        }
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(0f, breaker.failureRate());
+    }
+
+    @Test
+    void slowCallsOpenTheBreaker() {
+        for (int i = 0; i < 4; i++) {
+            call(Mono.fromSupplier(() -> {
+                clock.addAndGet(Duration.ofMillis(600).toNanos());
+                return "slow";
+            }));
+        }
+        assertEquals(State.OPEN, breaker.state());
+        assertEquals(100f, breaker.slowCallRate());
+    }
+
+    @Test
+    void halfOpenProbesCloseTheBreakerWhenUpstreamRecovers() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        call(Mono.just("ok"));
+        assertEquals(State.HALF_OPEN, breaker.state());
+        call(Mono.just("ok"));
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void failedProbeReopensTheBreaker() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        call(Mono.just("ok"));
+        failCall();
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void cancelledProbeGivesBackItsPermission() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Two probes are permitted; cancel both before they complete
+        guard.protect(Mono.never()).subscribe().dispose();
+        guard.protect(Mono.never()).subscribe().dispose();
+
+        assertEquals(State.HALF_OPEN, breaker.state());
+        call(Mono.just("ok"));
+        call(Mono.just("ok"));
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverTheLimit() {
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        guard.protect(first.asMono()).subscribe();
+        guard.protect(second.asMono()).subscribe();
+
+        UpstreamUnavailableException ex = assertThrows(UpstreamUnavailableException.class, () -> call(Mono.just("ok")));
+        assertTrue(ex.getMessage().contains("too many concurrent calls"));
+        assertEquals(1, guard.bulkhead().rejectedCalls());
+
+        first.tryEmitValue("done");
+        assertEquals("ok", call(Mono.just("ok")));
+        assertEquals(1, guard.bulkhead().inFlight());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            failCall();
+        }
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    private String call(Mono<String> upstream) {
+        return guard.protect(upstream.doOnSubscribe(s -> upstreamCalls.incrementAndGet())).block();
+    }
+
+    private void failCall() {
+        assertThrows(IllegalStateException.class, () -> call(Mono.error(new IllegalStateException("down"))));
+    }
+}
@@ -0,0 +1,186 @@
+package com.xyz.carrental.booking.benchmark;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.xyz.carrental.booking.BookingServiceApplication;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares Tomcat's 200 platform worker threads with the {@code virtual-threads} profile on the real blocking
+ * booking path: many concurrent {@code POST /api/v1/bookings} requests go through {@code BookingController},
+ * {@code BookingServiceImpl} (blocking on upstream stubs with a fixed delay) and the JPA save.
+ * <p>
+ * Each mode runs in its own application context and database. Upstream caches are disabled and the outbound
+ * connection pool and bulkheads are opened up, so every request blocks on the upstream and only the server's
+ * thread model differs. The virtual thread run also records JFR {@code jdk.VirtualThreadPinned} events.
+ * <p>
+ * Run with: {@code mvn test -Pjava21,benchmark -Dtest=VirtualThreadBenchmarkTest}
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 2000);
+    private static final int UPSTREAM_DELAY_MS = Integer.getInteger("bench.upstreamDelayMs", 200);
+    private static final int WARM_UP_REQUESTS = 200;
+
+    private static WireMockServer wireMock;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void startUpstream() {
+        wireMock = new WireMockServer(wireMockConfig().dynamicPort()
+                .containerThreads(2 * REQUESTS + 50)
+                .jettyAcceptQueueSize(2 * REQUESTS));
+        wireMock.start();
+        wireMock.stubFor(post(urlEqualTo("/license/details"))
+                .willReturn(okJson("{\"licenseNumber\":\"DL123456789\",\"ownerName\":\"John Doe\",\"expiryDate\":\""
+                        + LocalDate.now().plusYears(5) + "\"}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+        wireMock.stubFor(post(urlEqualTo("/rental/rate"))
+                .willReturn(okJson("{\"category\":\"MEDIUM\",\"ratePerDay\":50.00}")
+                        .withFixedDelay(UPSTREAM_DELAY_MS)));
+
+        // Load generator on virtual threads, so the client is never the bottleneck
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        httpClient.close();
+        wireMock.stop();
+    }
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        long platformMs;
+        try (ConfigurableApplicationContext app = startApp(false)) {
+            int port = port(app);
+            run(port, WARM_UP_REQUESTS);
+            platformMs = run(port, REQUESTS);
+        }
+
+        long virtualMs;
+        List<RecordedEvent> pinned;
+        try (ConfigurableApplicationContext app = startApp(true);
+             Recording recording = new Recording()) {
+            int port = port(app);
+            run(port, WARM_UP_REQUESTS);
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+            recording.start();
+            virtualMs = run(port, REQUESTS);
+            recording.stop();
+            Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+            recording.dump(dump);
+            pinned = RecordingFile.readAllEvents(dump);
+            Files.delete(dump);
+        }
+
+        System.out.printf("%n%d concurrent bookings, upstream delay %dms%n", REQUESTS, UPSTREAM_DELAY_MS);
+        System.out.printf("platform threads (200): %6d ms  %8.1f req/s%n", platformMs, REQUESTS * 1000.0 / platformMs);
+        System.out.printf("virtual threads:        %6d ms  %8.1f req/s%n", virtualMs, REQUESTS * 1000.0 / virtualMs);
+        System.out.printf("pinned virtual threads (>1ms): %d%n", pinned.size());
+        pinned.stream()
+                .map(VirtualThreadBenchmarkTest::pinnedAt)
+                .distinct()
+                .limit(5)
+                .forEach(frame -> System.out.println("  pinned at " + frame));
+    }
+
+    private static ConfigurableApplicationContext startApp(boolean virtualThreads) {
+        SpringApplicationBuilder app = new SpringApplicationBuilder(BookingServiceApplication.class);
+        if (virtualThreads) {
+            app.profiles("virtual-threads");
+        }
+        return app.properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:vtbench" + (virtualThreads ? "virtual" : "platform") + "db;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "external.driving-license.base-url=" + wireMock.baseUrl(),
+                        "external.pricing.base-url=" + wireMock.baseUrl(),
+                        "external.driving-license.cache.enabled=false",
+                        "external.pricing.cache.enabled=false",
+                        "external.driving-license.bulkhead.max-concurrent-calls=" + 2 * REQUESTS,
+                        "external.pricing.bulkhead.max-concurrent-calls=" + 2 * REQUESTS,
+                        "external.driving-license.timeout=60s",
+                        "external.pricing.timeout=60s",
+                        "external.http.max-connections=" + 2 * REQUESTS,
+                        "external.http.pending-acquire-max-count=-1",
+                        "external.http.pending-acquire-timeout=60s",
+                        "external.http.response-timeout=60s",
+                        "logging.level.com.xyz.carrental.booking=WARN")
+                .run();
+    }
+
+    private static int port(ConfigurableApplicationContext app) {
+        return ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+    }
+
+    private static long run(int port, int requests) throws Exception {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int day = 1 + i % 60;
+                results.add(executor.submit(() -> confirmBooking(port, day)));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(201, result.get());
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static int confirmBooking(int port, int day) throws Exception {
+        String body = """
+                {"drivingLicenseNumber":"DL123456789","age":30,"startDate":"%s","endDate":"%s","carSegment":"MEDIUM"}
+                """.formatted(LocalDate.now().plusDays(day), LocalDate.now().plusDays(day + 2));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/bookings"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Basic dXNlcjp1c2VyMTIz")
+                .timeout(Duration.ofSeconds(120))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String pinnedAt(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(method -> !method.startsWith("java.") && !method.startsWith("jdk."))
+                .findFirst()
+                .orElse("unknown");
+    }
+}